@@ -19,22 +19,67 @@ import jp.ecuacion.lib.core.violation.Violations;
 
 /**
  * Is thrown by {@link Violations#throwIfAny()} when one or more violations are present.
+ *
+ * <p>Since it's used for normal control flow of business rules,
+ *     it can be created without a stack trace to reduce the cost of {@code fillInStackTrace}.
+ *     Set {@link #setWritableStackTraceAsDefault(boolean)} to {@code false}
+ *     to apply it to all the exceptions created without {@code writableStackTrace},
+ *     or use {@link Violations#throwIfAny(boolean)} to specify it per throw.</p>
  */
 public class ViolationException extends RuntimeException {
 
   private static final long serialVersionUID = 1L;
 
+  private static volatile boolean writableStackTraceAsDefault = true;
+
   private final Violations violations;
 
   /**
    * Constructs a new instance with the {@code Violations} that caused this exception.
    *
+   * <p>The stack trace is writable or not
+   *     according to {@link #isWritableStackTraceAsDefault()}.</p>
+   *
    * @param violations the violations that triggered the throw
    */
   public ViolationException(Violations violations) {
+    this(violations, writableStackTraceAsDefault);
+  }
+
+  /**
+   * Constructs a new instance with the {@code Violations} that caused this exception.
+   *
+   * @param violations the violations that triggered the throw
+   * @param writableStackTrace whether or not the stack trace is writable.
+   *     When {@code false}, the stack trace is not filled in and is empty.
+   */
+  public ViolationException(Violations violations, boolean writableStackTrace) {
+    super(null, null, true, writableStackTrace);
     this.violations = violations;
   }
 
+  /**
+   * Returns whether the stack trace is writable
+   *     for the exceptions created without {@code writableStackTrace}.
+   *
+   * @return {@code true} by default
+   */
+  public static boolean isWritableStackTraceAsDefault() {
+    return writableStackTraceAsDefault;
+  }
+
+  /**
+   * Sets whether the stack trace is writable
+   *     for the exceptions created without {@code writableStackTrace}.
+   *
+   * <p>It affects {@link ViolationWarningException} and other subclasses too.</p>
+   *
+   * @param writableStackTrace {@code false} to create exceptions without stack traces
+   */
+  public static void setWritableStackTraceAsDefault(boolean writableStackTrace) {
+    writableStackTraceAsDefault = writableStackTrace;
+  }
+
   /**
    * Gets the violations that caused this exception.
    *
@@ -32,4 +32,15 @@ public class ViolationWarningException extends ViolationException {
   public ViolationWarningException(Violations violations) {
     super(violations);
   }
+
+  /**
+   * Constructs a new instance with the {@code Violations} that caused this exception.
+   *
+   * @param violations the violations that triggered the throw
+   * @param writableStackTrace whether or not the stack trace is writable.
+   *     When {@code false}, the stack trace is not filled in and is empty.
+   */
+  public ViolationWarningException(Violations violations, boolean writableStackTrace) {
+    super(violations, writableStackTrace);
+  }
 }
@@ -15,18 +15,12 @@
  */
 package jp.ecuacion.lib.core.item;
 
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.MethodType;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 import jp.ecuacion.lib.core.annotation.ItemNameKeyClass;
 import jp.ecuacion.lib.core.util.ObjectsUtil;
 import jp.ecuacion.lib.core.util.PropertyPathUtil;
@@ -54,19 +48,14 @@ public interface ItemContainer {
 
     // Walk the class hierarchy to collect and merge customizedItems() from all levels.
     // Most-derived level takes precedence; unset properties are inherited from parent levels.
+    // Levels declaring customizedItems() are resolved once per class.
     Item item = null;
-    boolean anyLevelFound = false;
-    for (Class<?> cls = this.getClass(); cls != null
-        && ItemContainer.class.isAssignableFrom(cls); cls = cls.getSuperclass()) {
-      try {
-        Method m = cls.getDeclaredMethod("customizedItems");
-        anyLevelFound = true;
-        Item[] levelItems = invokeCustomizedItemsNonVirtual(m, cls);
-        // Build a map to detect duplicate paths within the same level (throws
-        // IllegalStateException).
-        Map<@NonNull String, Item> levelMap =
-            Arrays.stream(levelItems).collect(Collectors.toMap(Item::getPropertyPath, e -> e));
-        Item levelItem = levelMap.get(ObjectsUtil.requireNonEmpty(noIndexPropertyPath));
+    ItemContainerLevels levels = ItemContainerLevels.of(this.getClass());
+    if (!levels.isEmpty()) {
+      for (Item[] levelItems : levels.getLevelItemsList(this)) {
+        // Duplicate paths within the same level throw IllegalStateException.
+        Item levelItem =
+            ItemContainerLevels.find(levelItems, ObjectsUtil.requireNonEmpty(noIndexPropertyPath));
         if (levelItem != null) {
           if (item == null) {
             item = levelItem;
@@ -74,19 +63,14 @@ public interface ItemContainer {
             item.mergeFromParent(levelItem);
           }
         }
-      } catch (NoSuchMethodException e) {
-        // cls does not declare its own customizedItems(); skip this level.
       }
-    }
 
-    // Fallback: if no class in the hierarchy declared customizedItems() directly
-    // (e.g. the method is provided as an interface default), use virtual dispatch.
-    if (!anyLevelFound) {
+    } else {
+      // Fallback: if no class in the hierarchy declared customizedItems() directly
+      // (e.g. the method is provided as an interface default), use virtual dispatch.
       Item[] items = customizedItems();
       if (items != null) {
-        Map<@NonNull String, Item> map =
-            Arrays.stream(items).collect(Collectors.toMap(Item::getPropertyPath, e -> e));
-        item = map.get(ObjectsUtil.requireNonEmpty(noIndexPropertyPath));
+        item = ItemContainerLevels.find(items, ObjectsUtil.requireNonEmpty(noIndexPropertyPath));
       }
     }
 
@@ -142,23 +126,16 @@ public interface ItemContainer {
    */
   default List<String> allCustomizedPropertyPaths() {
     Set<String> paths = new LinkedHashSet<>();
-    boolean anyLevelFound = false;
-
-    for (Class<?> cls = this.getClass(); cls != null
-        && ItemContainer.class.isAssignableFrom(cls); cls = cls.getSuperclass()) {
-      try {
-        Method m = cls.getDeclaredMethod("customizedItems");
-        anyLevelFound = true;
-        Item[] levelItems = invokeCustomizedItemsNonVirtual(m, cls);
+    ItemContainerLevels levels = ItemContainerLevels.of(this.getClass());
+
+    if (!levels.isEmpty()) {
+      for (Item[] levelItems : levels.getLevelItemsList(this)) {
         for (Item levelItem : levelItems) {
           paths.add(levelItem.getPropertyPath());
         }
-      } catch (NoSuchMethodException e) {
-        // cls does not declare its own customizedItems(); skip this level.
       }
-    }
 
-    if (!anyLevelFound) {
+    } else {
       // Fallback: virtual dispatch (e.g. customizedItems() provided as interface default)
       Item[] items = customizedItems();
       if (items != null) {
@@ -182,33 +159,6 @@ public interface ItemContainer {
     return new Item(propertyPath);
   }
 
-  /**
-   * Invokes the given {@code customizedItems()} method non-virtually so that the implementation
-   * declared at {@code cls} is called regardless of any overrides in subclasses.
-   *
-   * <p>Falls back to virtual dispatch when the target class's module does not open its package
-   *     to this library's module (e.g. named-module environments without {@code opens}).
-   *     In that case the parent-class inheritance feature is unavailable for that class,
-   *     but single-level behaviour is preserved.</p>
-   */
-  private Item[] invokeCustomizedItemsNonVirtual(Method m, Class<?> cls) {
-    try {
-      try {
-        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(cls, MethodHandles.lookup());
-        MethodHandle mh =
-            lookup.findSpecial(cls, m.getName(), MethodType.methodType(m.getReturnType()), cls);
-        Item[] result = (Item[]) mh.invoke(this);
-        return result == null ? new Item[0] : result;
-      } catch (IllegalAccessException e) {
-        // Named module without opens: fall back to virtual dispatch.
-        Item[] result = (Item[]) m.invoke(this);
-        return result == null ? new Item[0] : result;
-      }
-    } catch (Throwable e) {
-      throw new RuntimeException(e);
-    }
-  }
-
   /**
    * Merge common items and record dependent items.
    *
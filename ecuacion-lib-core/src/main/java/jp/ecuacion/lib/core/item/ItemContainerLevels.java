@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2012 ecuacion.jp (info@ecuacion.jp)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.ecuacion.lib.core.item;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Keeps the levels of the class hierarchy of an {@link ItemContainer} class
+ *     which declare {@code customizedItems()}.
+ *
+ * <p>The levels and the method handles to invoke them non-virtually are resolved
+ *     once per container class and cached in a {@link ClassValue}.
+ *     The {@code Item[]} themselves are obtained from the instance at every call
+ *     because {@code customizedItems()} may depend on the state of the instance
+ *     and the returned items are modified by {@link ItemContainer#getItem(String)}.</p>
+ */
+final class ItemContainerLevels {
+
+  private static final ClassValue<ItemContainerLevels> cache = new ClassValue<>() {
+    @Override
+    protected ItemContainerLevels computeValue(Class<?> type) {
+      return new ItemContainerLevels(type);
+    }
+  };
+
+  /** Levels declaring {@code customizedItems()}, most-derived first. */
+  private final List<@NonNull Level> levels;
+
+  private ItemContainerLevels(Class<?> containerClass) {
+    List<@NonNull Level> list = new ArrayList<>();
+    for (Class<?> cls = containerClass; cls != null
+        && ItemContainer.class.isAssignableFrom(cls); cls = cls.getSuperclass()) {
+      try {
+        Method m = cls.getDeclaredMethod("customizedItems");
+        list.add(new Level(m, getNonVirtualHandle(m, cls)));
+
+      } catch (NoSuchMethodException e) {
+        // cls does not declare its own customizedItems(); skip this level.
+      }
+    }
+
+    levels = Collections.unmodifiableList(list);
+  }
+
+  /**
+   * Returns the levels of {@code containerClass}.
+   */
+  static ItemContainerLevels of(Class<?> containerClass) {
+    return cache.get(containerClass);
+  }
+
+  /**
+   * Returns {@code true} if no class in the hierarchy declares {@code customizedItems()}
+   *     (e.g. the method is provided as an interface default).
+   */
+  boolean isEmpty() {
+    return levels.isEmpty();
+  }
+
+  /**
+   * Returns {@code Item[]} of each level, most-derived first.
+   */
+  List<Item[]> getLevelItemsList(ItemContainer container) {
+    List<Item[]> list = new ArrayList<>(levels.size());
+    for (Level level : levels) {
+      list.add(level.invoke(container));
+    }
+
+    return list;
+  }
+
+  /**
+   * Returns the item of {@code propertyPath} in {@code items}, or {@code null} if not exists.
+   *
+   * @throws IllegalStateException when {@code propertyPath} of items are duplicated
+   */
+  static @Nullable Item find(Item[] items, String propertyPath) {
+    Item found = null;
+    Set<String> pathSet = new HashSet<>();
+    for (Item item : items) {
+      if (!pathSet.add(item.getPropertyPath())) {
+        throw new IllegalStateException("Duplicate key " + item.getPropertyPath());
+      }
+
+      if (found == null && item.getPropertyPath().equals(propertyPath)) {
+        found = item;
+      }
+    }
+
+    return found;
+  }
+
+  /*
+   * Returns the handle to invoke customizedItems() declared at cls regardless of overrides
+   * in subclasses, or null when the module of cls does not open its package to this library.
+   */
+  private static @Nullable MethodHandle getNonVirtualHandle(Method m, Class<?> cls) {
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(cls, MethodHandles.lookup());
+      return lookup.findSpecial(cls, m.getName(), MethodType.methodType(m.getReturnType()), cls)
+          .asType(MethodType.methodType(Item[].class, ItemContainer.class));
+
+    } catch (IllegalAccessException e) {
+      return null;
+
+    } catch (NoSuchMethodException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static record Level(Method method, @Nullable MethodHandle handle) {
+
+    private Item[] invoke(ItemContainer container) {
+      try {
+        // Named module without opens: fall back to virtual dispatch.
+        Item[] result = handle == null ? (Item[]) method.invoke(container)
+            : (Item[]) handle.invokeExact(container);
+        return result == null ? new Item[0] : result;
+
+      } catch (Throwable e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+}
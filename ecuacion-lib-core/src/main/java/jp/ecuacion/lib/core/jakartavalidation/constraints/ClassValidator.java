@@ -18,8 +18,6 @@ package jp.ecuacion.lib.core.jakartavalidation.constraints;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import java.lang.annotation.Annotation;
-import java.util.Arrays;
-import java.util.List;
 import jp.ecuacion.lib.core.util.PropertyPathUtil;
 import org.jspecify.annotations.Nullable;
 
@@ -44,23 +42,52 @@ public abstract class ClassValidator<A extends Annotation, T>
     extends MultiplePropertyPathsValidator<A, T> implements ConstraintValidator<A, T> {
 
   /**
-   * It's {@code @NonNull} 
-   *     but it cannot be initialized at Constructor so initial value is substituted.
+   * Validates {@code value} with the values of {@code propertyPaths} obtained once.
+   *
+   * <p>Validator instances are cached and shared among threads
+   *     by Jakarta Validation implementations,
+   *     so the values are obtained per validation and passed to
+   *     {@link #internalIsValid(Object, Object[], ConstraintValidatorContext)}
+   *     instead of being kept in fields.</p>
    */
-  protected Object[] valuesOfPropertyPaths = new Object[] {};
-
   @Override
   public boolean isValid(T value, @Nullable ConstraintValidatorContext context) {
-    valuesOfPropertyPaths = setValuesOfPropertyPaths(value);
+    Object[] valuesOfPropertyPaths = getValuesOfPropertyPaths(value);
 
-    return isValidCommon(value, context);
+    return addConstraintViolations(internalIsValid(value, valuesOfPropertyPaths, context),
+        context);
   }
 
-  private Object[] setValuesOfPropertyPaths(T object) {
-    List<Object> list =
-        Arrays.stream(propertyPaths).map(path -> PropertyPathUtil.getValue(object, path)).toList();
+  /**
+   * Is {@code isValid} method for each class-level validators
+   *     with the values of {@code propertyPaths}.
+   *
+   * <p>The default implementation calls
+   *     {@link #internalIsValid(Object, ConstraintValidatorContext)}.
+   *     Override this to use the values.</p>
+   *
+   * @param value the validated object
+   * @param valuesOfPropertyPaths values of {@code propertyPaths} in the same order
+   * @param context context
+   * @return boolean
+   */
+  protected boolean internalIsValid(T value, Object[] valuesOfPropertyPaths,
+      @Nullable ConstraintValidatorContext context) {
+    return internalIsValid(value, context);
+  }
+
+  /**
+   * Returns the values of {@code propertyPaths} in {@code object}.
+   *
+   * @param object the validated object
+   * @return values of {@code propertyPaths} in the same order
+   */
+  protected Object[] getValuesOfPropertyPaths(Object object) {
+    Object[] rtn = new Object[propertyPaths.length];
+    for (int i = 0; i < propertyPaths.length; i++) {
+      rtn[i] = PropertyPathUtil.getValue(object, propertyPaths[i]);
+    }
 
-    Object[] rtn = list.toArray(Object[]::new);
     return rtn;
   }
 }
@@ -94,7 +94,19 @@ public abstract class MultiplePropertyPathsValidator<A extends Annotation, T>
    * Is a common procedure of {@code isValid}.
    */
   protected boolean isValidCommon(T value, @Nullable ConstraintValidatorContext context) {
-    boolean result = internalIsValid(value, context);
+    return addConstraintViolations(internalIsValid(value, context), context);
+  }
+
+  /**
+   * Adds a ConstraintViolation for each propertyPath
+   *     when {@code createsMultipleConstraintViolations} is {@code true}.
+   *
+   * @param result the result of {@code internalIsValid}
+   * @param context context
+   * @return {@code result}
+   */
+  protected boolean addConstraintViolations(boolean result,
+      @Nullable ConstraintValidatorContext context) {
     @NonNull ConstraintValidatorContext nonNullContext = ObjectsUtil.requireNonNull(context);
 
     if (createsMultipleConstraintViolations) {
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2012 ecuacion.jp (info@ecuacion.jp)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.ecuacion.lib.core.jakartavalidation.constraints;
+
+import java.util.Map;
+import java.util.function.Function;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Provides accessors to the values of propertyPaths of a class without reflection.
+ *
+ * <p>Implementations are generated at compile time by an annotation processor
+ *     (like {@code jp.ecuacion.lib.validation.processor.PropertyPathAccessorProcessor})
+ *     for the propertyPaths referred by the class-level constraints of the class.
+ *     The generated class is placed in the same package as the annotated class
+ *     and named {@code <binary class name without the package>} + {@link #CLASS_NAME_SUFFIX}
+ *     (like {@code Outer$Inner_PropertyPathAccessors} for a nested class {@code Outer.Inner}).
+ *     The table is used only when {@link #getTargetClass()} is the class of the object.</p>
+ *
+ * <p>{@link jp.ecuacion.lib.core.util.PropertyPathUtil#getValue(Object, String)}
+ *     uses the accessors when the implementation for the class of the object exists,
+ *     and resolves the value by reflection otherwise.</p>
+ */
+public interface PropertyPathAccessorTable {
+
+  /**
+   * Is the suffix of the generated class names.
+   */
+  public static final String CLASS_NAME_SUFFIX = "_PropertyPathAccessors";
+
+  /**
+   * Returns the class whose propertyPaths the accessors access.
+   *
+   * @return the annotated class
+   */
+  Class<?> getTargetClass();
+
+  /**
+   * Returns the map of propertyPath to the accessor.
+   *
+   * <p>An accessor receives an instance of the annotated class
+   *     and returns the value of the propertyPath.</p>
+   *
+   * @return map of propertyPath to the accessor
+   */
+  Map<@NonNull String, @NonNull Function<Object, @Nullable Object>> getAccessors();
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2012 ecuacion.jp (info@ecuacion.jp)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.ecuacion.lib.core.jakartavalidation.constraints;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Memoizes values computed by constraint validators during one validation run.
+ *
+ * <p>Class-level constraints on one bean often compute the same value.
+ *     For example, many {@code @XxxWhen} constraints on a form evaluate
+ *     the same condition on a {@code type} field.
+ *     While a run started by {@link #run(Supplier)} is in progress on the current thread,
+ *     values are memoized per bean (compared by identity) and key,
+ *     so each of them is computed once per bean.</p>
+ *
+ * <p>Outside a run, values are computed every time
+ *     since beans may be changed between validations.
+ *     {@link jp.ecuacion.lib.core.violation.Violations} validates beans in a run.</p>
+ */
+public final class ValidationRunMemo {
+
+  private static final ThreadLocal<@Nullable IdentityHashMap<Object,
+      @NonNull Map<@NonNull Object, @NonNull Object>>> memo = new ThreadLocal<>();
+
+  private ValidationRunMemo() {}
+
+  /**
+   * Runs {@code action} as a validation run.
+   *
+   * <p>When a run is already in progress on the current thread,
+   *     {@code action} is a part of it.</p>
+   *
+   * @param <R> the type of the result
+   * @param action action which validates beans
+   * @return the result of {@code action}
+   */
+  public static <R> R run(Supplier<R> action) {
+    if (memo.get() != null) {
+      return action.get();
+    }
+
+    memo.set(new IdentityHashMap<>());
+    try {
+      return action.get();
+
+    } finally {
+      memo.remove();
+    }
+  }
+
+  /**
+   * Returns the value memoized for {@code bean} and {@code key},
+   *     or computes and memoizes it.
+   *
+   * <p>{@code key} needs to implement {@code equals} and {@code hashCode}
+   *     and to contain everything the value depends on except {@code bean}.</p>
+   *
+   * @param <V> the type of the value
+   * @param bean the validated bean
+   * @param key key
+   * @param supplier supplier of the value
+   * @return value
+   */
+  public static <V> V computeIfAbsent(Object bean, Object key, Supplier<@NonNull V> supplier) {
+    IdentityHashMap<Object, @NonNull Map<@NonNull Object, @NonNull Object>> map = memo.get();
+    if (map == null) {
+      return supplier.get();
+    }
+
+    Map<@NonNull Object, @NonNull Object> beanMap = map.computeIfAbsent(bean, b -> new HashMap<>());
+    Object value = beanMap.get(key);
+    if (value == null) {
+      // Map#computeIfAbsent is not used since supplier may memoize values of other keys.
+      value = supplier.get();
+      beanMap.put(key, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    V rtn = (V) value;
+    return rtn;
+  }
+}
@@ -31,6 +31,10 @@ import org.jspecify.annotations.Nullable;
  * <p>Map values may be {@link jp.ecuacion.lib.core.util.PropertiesFileUtil.Arg} instances
  *     (resolved at render time), {@link ItemNameParam} (for item-name resolution),
  *     or plain {@code Object}s.</p>
+ *
+ * <p>An implementation is found by its class name ({@code <validator class name>}
+ *     + {@code MessageParameterCreator}) and one instance per class is shared
+ *     among all the messages, so implementations must be stateless.</p>
  */
 public interface ValidatorMessageParameterCreator {
 
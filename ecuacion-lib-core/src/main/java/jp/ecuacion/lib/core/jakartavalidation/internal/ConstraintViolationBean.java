@@ -16,6 +16,8 @@
 package jp.ecuacion.lib.core.jakartavalidation.internal;
 
 import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ElementKind;
+import jakarta.validation.Path;
 import jakarta.validation.metadata.ConstraintDescriptor;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -29,6 +31,7 @@ import jp.ecuacion.lib.core.jakartavalidation.constraints.ClassValidator;
 import jp.ecuacion.lib.core.jakartavalidation.constraints.MultiplePropertyPathsValidator;
 import jp.ecuacion.lib.core.util.ItemUtil;
 import jp.ecuacion.lib.core.util.PropertiesFileUtil;
+import jp.ecuacion.lib.core.util.PropertyPathUtil;
 import jp.ecuacion.lib.core.util.StringUtil;
 import org.apache.commons.lang3.StringUtils;
 import org.jspecify.annotations.NonNull;
@@ -51,7 +54,10 @@ import org.jspecify.annotations.Nullable;
  *       and {@code invalidValue} for use as message-template parameters.</li>
  * </ul>
  *
- * <p>Instances are created via {@link #createConstraintViolationBean(ConstraintViolation)}.</p>
+ * <p>Instances are created via {@link #createConstraintViolationBean(ConstraintViolation)}.
+ *     The English message, {@code itemList} and {@code embeddedParamMap} are created
+ *     on first access since they are not always needed
+ *     (e.g. when messages are rendered in another locale).</p>
  */
 public class ConstraintViolationBean<T> {
 
@@ -77,28 +83,37 @@ public class ConstraintViolationBean<T> {
   private String constraintViolationPropertyPath;
   private @Nullable Object invalidValue;
   private String messageTemplate;
-  private String message;
+  /** Is created on first access. */
+  private volatile @Nullable String message;
   /** Message already resolved by the Jakarta Validation implementation 
    * ({@code cv.getMessage()}). */
   private String resolvedMessage;
   /** Original constraint descriptor, used for locale-aware re-interpolation. */
   private ConstraintDescriptor<?> constraintDescriptor;
   /**
-   * The value of the map is {@code @Nullable} 
+   * The constraint descriptor's attributes cleaned of keys not used as message parameters.
+   */
+  private Map<@NonNull String, @Nullable Object> constraintAttributeMap;
+  /**
+   * Is created on first access.
+   * 
+   * <p>The value of the map is {@code @Nullable} 
    *     because this map stores {@code invalidValue} parameter 
-   *     and its value (validated value) can be {@code null}.
+   *     and its value (validated value) can be {@code null}.</p>
    */
-  private Map<@NonNull String, @Nullable Object> embeddedParamMap = new HashMap<>();
+  private volatile @Nullable Map<@NonNull String, @Nullable Object> embeddedParamMap;
 
   // values needed for all the patterns
 
-  private List<Item> itemList = new ArrayList<>();
+  private @NonNull String[] propertyPaths;
+  /** Is created on first access. */
+  private volatile @Nullable List<Item> itemList;
 
   private ConstraintViolationBean(String validatorClassName,
       @NonNull T rootBean, Object leafBean, @Nullable Object invalidValue, String messageTemplate,
       Map<@NonNull String, @Nullable Object> embeddedParameterMap,
       String constraintViolationPropertyPath, String resolvedMessage,
-      ConstraintDescriptor<?> constraintDescriptor, String... propertyPaths) {
+      ConstraintDescriptor<?> constraintDescriptor, @NonNull String... propertyPaths) {
 
     this.rootBean = rootBean;
     this.leafBean = leafBean;
@@ -106,26 +121,10 @@ public class ConstraintViolationBean<T> {
     this.constraintViolationPropertyPath = constraintViolationPropertyPath;
     this.invalidValue = invalidValue;
     this.constraintDescriptor = constraintDescriptor;
-    String msg = PropertiesFileUtil.getValidationMessage(Locale.ENGLISH,
-        messageTemplate.replace("{", "").replace("}", ""), new HashMap<>());
-    this.message = msg;
     this.messageTemplate = messageTemplate;
     this.resolvedMessage = resolvedMessage;
-
-    List<@NonNull String> propertyPathList = List.of(propertyPaths);
-    for (String fullPropertyPath : propertyPathList) {
-      itemList.add(ItemUtil.resolveItem(fullPropertyPath, rootBean));
-    }
-
-    embeddedParamMap.put("invalidValue", invalidValue);
-
-    // Put field in this instance to paramMap
-    embeddedParamMap.put("annotation", validatorClass);
-    embeddedParamMap.put("itemAttributes", itemList.toArray(Item[]::new));
-
-    if (embeddedParameterMap != null) {
-      this.embeddedParamMap.putAll(embeddedParameterMap);
-    }
+    this.constraintAttributeMap = embeddedParameterMap;
+    this.propertyPaths = propertyPaths;
   }
 
   /**
@@ -148,6 +147,29 @@ public class ConstraintViolationBean<T> {
     embeddedParamMap.remove("message");
     embeddedParamMap.remove("payload");
 
+    ConstraintViolationBean<U> rtnCv = new ConstraintViolationBean<>(
+        Objects.requireNonNull(Objects.requireNonNull(cv.getConstraintDescriptor()).getAnnotation())
+            .annotationType().getName(),
+        cv.getRootBean(), cv.getLeafBean(), cv.getInvalidValue(), cv.getMessageTemplate(),
+        embeddedParamMap, cv.getPropertyPath().toString(), cv.getMessage(),
+        cv.getConstraintDescriptor(), getPropertyPaths(cv));
+
+    return rtnCv;
+  }
+
+  /**
+   * Returns the propertyPaths of the items the violation is about.
+   *
+   * <p>It's the propertyPath of {@code ConstraintViolation} for standard constraints,
+   *     and the ones specified by the {@code propertyPath} attribute prefixed by the path
+   *     to the bean for constraints like {@code @NotEmptyWhen} or {@code @GreaterThan}.</p>
+   *
+   * <p>Developers don't need to use this. It is used only in ecuacion libraries.</p>
+   *
+   * @param cv ConstraintViolation
+   * @return propertyPaths
+   */
+  public static @NonNull String[] getPropertyPaths(ConstraintViolation<?> cv) {
     // validatorClass
     Class<?> validatorClass = cv.getConstraintDescriptor().getConstraintValidatorClasses().get(0);
 
@@ -155,31 +177,38 @@ public class ConstraintViolationBean<T> {
         MultiplePropertyPathsValidator.class.isAssignableFrom(validatorClass);
     boolean isClassValidator = ClassValidator.class.isAssignableFrom(validatorClass);
 
-    // propertyPathList
     String cvPp = cv.getPropertyPath() == null ? "" : cv.getPropertyPath().toString();
-    List<@NonNull String> ppList = null;
-    if (isMultiplePropertyPathsValidator) {
-      // Base differs class from method.
-      String cvPpBase = isClassValidator ? cvPp
-          : (cvPp.contains(".") ? cvPp.substring(0, cvPp.lastIndexOf(".")) : "");
-      String cvPpPrefix = (StringUtils.isEmpty(cvPpBase) ? "" : cvPpBase + ".");
-
-      ppList = Arrays.stream((String[]) embeddedParamMap.get("propertyPath"))
-          .map(p -> cvPpPrefix + p).toList();
-
-    } else {
-      ppList = new ArrayList<>();
-      ppList.add(cvPp);
+    if (!isMultiplePropertyPathsValidator) {
+      return new String[] {cvPp};
     }
 
-    ConstraintViolationBean<U> rtnCv = new ConstraintViolationBean<>(
-        Objects.requireNonNull(Objects.requireNonNull(cv.getConstraintDescriptor()).getAnnotation())
-            .annotationType().getName(),
-        cv.getRootBean(), cv.getLeafBean(), cv.getInvalidValue(), cv.getMessageTemplate(),
-        embeddedParamMap, cv.getPropertyPath().toString(), cv.getMessage(),
-        cv.getConstraintDescriptor(), ppList.toArray(String[]::new));
+    // Base differs class from method.
+    String cvPpBase = isClassValidator ? cvPp
+        : (cvPp.contains(".") ? cvPp.substring(0, cvPp.lastIndexOf(".")) : "");
+    String cvPpPrefix = (StringUtils.isEmpty(cvPpBase) ? "" : cvPpBase + ".");
 
-    return rtnCv;
+    return Arrays.stream((String[]) Objects.requireNonNull(
+        cv.getConstraintDescriptor().getAttributes().get("propertyPath")))
+        .map(p -> cvPpPrefix + p).toArray(String[]::new);
+  }
+
+  /**
+   * Returns whether the violation is of a class-level constraint.
+   *
+   * <p>The invalid value of it is the bean itself, not a value of an item.</p>
+   *
+   * <p>Developers don't need to use this. It is used only in ecuacion libraries.</p>
+   *
+   * @param cv ConstraintViolation
+   * @return {@code true} when the violation is of a class-level constraint
+   */
+  public static boolean isClassLevel(ConstraintViolation<?> cv) {
+    Path.Node lastNode = null;
+    for (Path.Node node : cv.getPropertyPath()) {
+      lastNode = node;
+    }
+
+    return lastNode == null || lastNode.getKind() == ElementKind.BEAN;
   }
 
   /** 
@@ -193,7 +222,8 @@ public class ConstraintViolationBean<T> {
     return "message:" + getMessage() + "\n" + "annotation:" + getValidatorClass() + "\n"
         + "rootClassName:" + Objects.requireNonNull(getRootBean()).getClass().getName() + "\n"
         + "leafClassName:" + getLeafBean().getClass().getName() + "\n" + "propertyPath:"
-        + StringUtil.getCsv(getItemList().stream().map(Item::getPropertyPath).toList()) + "\n"
+        + StringUtil.getCsv(Arrays.stream(propertyPaths).map(PropertyPathUtil::toIndexlessPath)
+            .toList()) + "\n"
         + "invalidValue:" + getInvalidValue();
   }
 
@@ -216,7 +246,14 @@ public class ConstraintViolationBean<T> {
    * Returns message.
    */
   public String getMessage() {
-    return message;
+    String msg = message;
+    if (msg == null) {
+      msg = PropertiesFileUtil.getValidationMessage(Locale.ENGLISH,
+          messageTemplate.replace("{", "").replace("}", ""), new HashMap<>());
+      message = msg;
+    }
+
+    return msg;
   }
 
   /**
@@ -264,16 +301,55 @@ public class ConstraintViolationBean<T> {
     return iv == null ? "null" : iv.toString();
   }
 
+  /**
+   * Returns the list of items resolved from propertyPaths.
+   */
   public List<Item> getItemList() {
-    return itemList;
+    List<Item> list = itemList;
+    if (list == null) {
+      synchronized (this) {
+        list = itemList;
+        if (list == null) {
+          list = new ArrayList<>();
+          for (String fullPropertyPath : propertyPaths) {
+            list.add(ItemUtil.resolveItem(fullPropertyPath, rootBean));
+          }
+
+          itemList = list;
+        }
+      }
+    }
+
+    return list;
   }
 
   public Item[] getItems() {
-    return itemList.toArray(Item[]::new);
+    return getItemList().toArray(Item[]::new);
   }
 
+  /**
+   * Returns the map of message parameters.
+   */
   public Map<@NonNull String, @Nullable Object> getEmbeddedParamMap() {
-    return embeddedParamMap;
+    Map<@NonNull String, @Nullable Object> map = embeddedParamMap;
+    if (map == null) {
+      synchronized (this) {
+        map = embeddedParamMap;
+        if (map == null) {
+          map = new HashMap<>();
+          map.put("invalidValue", invalidValue);
+
+          // Put field in this instance to paramMap
+          map.put("annotation", validatorClass);
+          map.put("itemAttributes", getItems());
+
+          map.putAll(constraintAttributeMap);
+          embeddedParamMap = map;
+        }
+      }
+    }
+
+    return map;
   }
 
 }
@@ -103,7 +103,7 @@ public class ErrorLogger extends AbstractLogger {
       if (throwable instanceof ViolationException ve) {
         StringBuilder sb = new StringBuilder(throwableMessage);
         for (ConstraintViolation<?> cv
-            : ve.getViolations().getConstraintViolations()) {
+            : ve.getViolations().getConstraintViolationsView()) {
           sb.append("\n").append(ConstraintViolationBean.createConstraintViolationBean(cv));
         }
         throwableMessage = sb.toString();
@@ -175,7 +175,7 @@ public class EmbeddedVariableUtil {
       } else {
         // format is wrong
         Violations violations = new Violations();
-        exList.forEach(ex -> ex.getViolations().getBusinessViolations()
+        exList.forEach(ex -> ex.getViolations().getBusinessViolationsView()
             .forEach(violations::add));
         throw new ViolationException(violations);
       }
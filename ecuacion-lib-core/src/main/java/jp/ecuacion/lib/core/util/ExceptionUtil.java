@@ -15,28 +15,44 @@
  */
 package jp.ecuacion.lib.core.util;
 
+import jakarta.validation.ConstraintTarget;
+import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.MessageInterpolator;
-import jakarta.validation.Validation;
+import jakarta.validation.Payload;
 import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.ValidateUnwrappedValue;
+import java.lang.annotation.Annotation;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 import jp.ecuacion.lib.core.exception.ConstraintViolationExceptionWithParameters;
 import jp.ecuacion.lib.core.exception.ViolationException;
 import jp.ecuacion.lib.core.item.Item;
 import jp.ecuacion.lib.core.jakartavalidation.constraints.ValidatorMessageParameterCreator;
 import jp.ecuacion.lib.core.jakartavalidation.internal.ConstraintViolationBean;
 import jp.ecuacion.lib.core.util.PropertiesFileUtil.Arg;
+import jp.ecuacion.lib.core.util.internal.ExceptionUtilMessageParameterCreators;
+import jp.ecuacion.lib.core.util.internal.ExceptionUtilRenderedMessageCache;
+import jp.ecuacion.lib.core.util.internal.PropertiesFileUtilResolver;
 import jp.ecuacion.lib.core.violation.BusinessViolation;
+import jp.ecuacion.lib.core.violation.DetachedViolations;
+import jp.ecuacion.lib.core.violation.DetachedViolations.DetachedConstraintViolation;
+import jp.ecuacion.lib.core.violation.DetachedViolations.ItemNameKeysParam;
 import jp.ecuacion.lib.core.violation.Violations;
 import jp.ecuacion.lib.core.violation.Violations.MessageParameters;
 import org.jspecify.annotations.NonNull;
@@ -50,22 +66,33 @@ public class ExceptionUtil {
   public static final String SYSTEM_ERROR_OCCURED_SIGN =
       "=============== system error occurred ===============";
 
-  private static volatile @Nullable MessageInterpolator defaultInterpolator;
+  /** Is the number of violations rendered in one task in parallel rendering. */
+  private static final int PARALLEL_RENDERING_CHUNK_SIZE = 256;
 
   /**
    * Prevents other classes from instantiating it.
    */
   private ExceptionUtil() {}
 
+  /**
+   * Sets the max number of messages rendered from {@link ConstraintViolation}s to cache.
+   *
+   * <p>The cache is disabled by default ({@code 0}).
+   *     It's useful when many violations differ only in the row index
+   *     like the ones from CSV or Excel imports.
+   *     Messages are cached per (message template, locale, with or without item names,
+   *     {@link MessageParameters}, message parameters and rendered item names).
+   *     Messages with message parameters compared by identity
+   *     (values of classes which do not override {@code equals}) are not cached.</p>
+   *
+   * @param maxSize max number of cached messages, {@code 0} to disable the cache
+   */
+  public static void setRenderedMessageCacheMaxSize(int maxSize) {
+    ExceptionUtilRenderedMessageCache.setMaxSize(maxSize);
+  }
+
   private static MessageInterpolator getDefaultInterpolator() {
-    if (defaultInterpolator == null) {
-      synchronized (ExceptionUtil.class) {
-        if (defaultInterpolator == null) {
-          defaultInterpolator = Validation.buildDefaultValidatorFactory().getMessageInterpolator();
-        }
-      }
-    }
-    return Objects.requireNonNull(defaultInterpolator);
+    return Violations.getValidatorFactory().getMessageInterpolator();
   }
 
   private static class DefaultMessageContext implements MessageInterpolator.Context {
@@ -94,6 +121,74 @@ public class ExceptionUtil {
     }
   }
 
+  /*
+   * Provides the message parameters of a detached violation as the attributes of the constraint
+   * so that the message interpolator of Jakarta Validation can interpolate it.
+   */
+  private static class DetachedConstraintDescriptor implements ConstraintDescriptor<Annotation> {
+    private final DetachedConstraintViolation cv;
+
+    DetachedConstraintDescriptor(DetachedConstraintViolation cv) {
+      this.cv = cv;
+    }
+
+    @Override
+    public @Nullable Annotation getAnnotation() {
+      return null;
+    }
+
+    @Override
+    public String getMessageTemplate() {
+      return cv.messageTemplate();
+    }
+
+    @Override
+    public Set<Class<?>> getGroups() {
+      return Set.of();
+    }
+
+    @Override
+    public Set<Class<? extends Payload>> getPayload() {
+      return Set.of();
+    }
+
+    @Override
+    public ConstraintTarget getValidationAppliesTo() {
+      return ConstraintTarget.IMPLICIT;
+    }
+
+    @Override
+    public List<Class<? extends ConstraintValidator<Annotation, ?>>>
+        getConstraintValidatorClasses() {
+      return List.of();
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+      return cv.params();
+    }
+
+    @Override
+    public Set<ConstraintDescriptor<?>> getComposingConstraints() {
+      return Set.of();
+    }
+
+    @Override
+    public boolean isReportAsSingleViolation() {
+      return false;
+    }
+
+    @Override
+    public ValidateUnwrappedValue getValueUnwrapping() {
+      return ValidateUnwrappedValue.DEFAULT;
+    }
+
+    @Override
+    public <U> U unwrap(@Nullable Class<U> type) {
+      throw new jakarta.validation.ValidationException("Unwrapping is not supported.");
+    }
+  }
+
   /**
    * Returns Exception message list.
    */
@@ -375,14 +470,12 @@ public class ExceptionUtil {
     List<@NonNull String> result = new ArrayList<>();
     Locale nonNullLocale = locale == null ? LocaleUtil.getFallbackLocale() : locale;
 
-    for (ConstraintViolation<?> cv : violations.getConstraintViolations()) {
-      result
-          .add(buildMessageFromConstraintViolation(nonNullLocale, isMessagesWithItemNamesAsDefault,
-              cv, ConstraintViolationBean.createConstraintViolationBean(cv),
-              violations.messageParameters()));
+    for (ConstraintViolation<?> cv : violations.getConstraintViolationsView()) {
+      result.add(getMessageFromConstraintViolation(nonNullLocale,
+          isMessagesWithItemNamesAsDefault, cv, violations.messageParameters()));
     }
 
-    for (BusinessViolation bv : violations.getBusinessViolations()) {
+    for (BusinessViolation bv : violations.getBusinessViolationsView()) {
       result.add(getMessageFromBusinessViolation(nonNullLocale, isMessagesWithItemNamesAsDefault,
           bv, violations.messageParameters()));
     }
@@ -390,21 +483,321 @@ public class ExceptionUtil {
     return result;
   }
 
+  /**
+   * Returns message list from {@link DetachedViolations}.
+   *
+   * <p>Messages are rendered without the validated beans.
+   *     See {@link DetachedViolations} for the differences
+   *     from {@link #getMessageList(Violations, Locale, boolean)}.</p>
+   *
+   * @param violations detached violations
+   * @param locale locale, may be {@code null} which is treated as the fallback locale
+   *     (see {@link LocaleUtil#getFallbackLocale()}).
+   * @param isMessagesWithItemNamesAsDefault true when item names are shown in messages by default.
+   * @return a list of messages
+   */
+  public static List<@NonNull String> getMessageList(DetachedViolations violations,
+      @Nullable Locale locale, boolean isMessagesWithItemNamesAsDefault) {
+    List<@NonNull String> result = new ArrayList<>();
+    Locale nonNullLocale = locale == null ? LocaleUtil.getFallbackLocale() : locale;
+
+    for (DetachedConstraintViolation cv : violations.getConstraintViolations()) {
+      result.add(buildMessageFromDetachedConstraintViolation(nonNullLocale,
+          isMessagesWithItemNamesAsDefault, cv, violations.getMessageParameters()));
+    }
+
+    for (BusinessViolation bv : violations.getBusinessViolations()) {
+      result.add(getMessageFromBusinessViolation(nonNullLocale, isMessagesWithItemNamesAsDefault,
+          bv, violations.getMessageParameters()));
+    }
+
+    return result;
+  }
+
+  /**
+   * Is a message rendered for a group of violations
+   *     by {@link #getAggregatedMessageList(Violations, Locale, boolean, int)}.
+   *
+   * @param message message rendered from the first violation of the group
+   * @param count number of violations in the group
+   * @param sampleIndexes indexes of rows (elements) of the first violations in the group,
+   *     up to the specified max size
+   */
+  public record AggregatedMessage(String message, int count,
+      List<@NonNull Integer> sampleIndexes) {
+  }
+
+  /*
+   * Key to group violations. Paths are indexless so that the violations of the same column
+   * in different rows belong to the same group.
+   */
+  private record AggregationKey(boolean isConstraintViolation, String messageIdOrTemplate,
+      List<@NonNull String> indexlessPaths) {
+  }
+
+  private static class AggregationGroup {
+    private final Object firstViolation;
+    private int count;
+    private final List<@NonNull Integer> sampleIndexes = new ArrayList<>();
+
+    private AggregationGroup(Object firstViolation) {
+      this.firstViolation = firstViolation;
+    }
+  }
+
+  /**
+   * Returns messages from {@link Violations}, rendering one message per group of violations.
+   *
+   * <p>It's meant for bulk imports where many rows fail in the same way.
+   *     Violations are grouped by (message template or message ID, indexless property paths),
+   *     so violations at {@code rows[1].name} and {@code rows[2].name}
+   *     with the same constraint belong to the same group.
+   *     The property paths of class-level constraints like {@code @NotEmptyWhen}
+   *     are the ones specified by their {@code propertyPath} attribute.
+   *     Only the first violation of each group is rendered,
+   *     which means values in the message like the invalid value are the ones of it.
+   *     Groups are ordered by the first appearance
+   *     in the order of {@link #getMessageList(Violations, Locale, boolean)}.</p>
+   *
+   * <p>The index of a row is the one set by {@link Violations#validateAll}
+   *     or the first index in the property path like {@code 3} of {@code rows[3].name}.
+   *     Violations without both are counted but not sampled.</p>
+   *
+   * @param violations violations
+   * @param locale locale, may be {@code null} which is treated as the fallback locale
+   *     (see {@link LocaleUtil#getFallbackLocale()}).
+   * @param isMessagesWithItemNamesAsDefault true when item names are shown in messages by default.
+   * @param maxSampleSize max number of row indexes kept per group
+   * @return a list of aggregated messages
+   */
+  public static List<@NonNull AggregatedMessage> getAggregatedMessageList(Violations violations,
+      @Nullable Locale locale, boolean isMessagesWithItemNamesAsDefault, int maxSampleSize) {
+    if (maxSampleSize < 0) {
+      throw new IllegalArgumentException(
+          "maxSampleSize must be 0 or more. maxSampleSize: " + maxSampleSize);
+    }
+
+    Locale nonNullLocale = locale == null ? LocaleUtil.getFallbackLocale() : locale;
+    MessageParameters params = violations.messageParameters();
+
+    Map<AggregationKey, AggregationGroup> groupMap = new LinkedHashMap<>();
+    for (ConstraintViolation<?> cv : violations.getConstraintViolationsView()) {
+      String path = cv.getPropertyPath() == null ? "" : cv.getPropertyPath().toString();
+      Integer index = violations.getElementIndex(cv);
+      // propertyPaths of the items, not the path of the bean for class-level constraints
+      aggregate(groupMap, new AggregationKey(true, cv.getMessageTemplate(),
+          Arrays.stream(ConstraintViolationBean.getPropertyPaths(cv))
+              .map(PropertyPathUtil::toIndexlessPath).toList()), cv,
+          index != null ? index : getFirstIndex(path), maxSampleSize);
+    }
+
+    for (BusinessViolation bv : violations.getBusinessViolationsView()) {
+      String[] paths = bv.getItemPropertyPaths();
+      aggregate(groupMap, new AggregationKey(false, bv.getMessageId(),
+          Arrays.stream(paths).map(PropertyPathUtil::toIndexlessPath).toList()), bv,
+          paths.length == 0 ? null : getFirstIndex(paths[0]), maxSampleSize);
+    }
+
+    List<@NonNull AggregatedMessage> result = new ArrayList<>();
+    for (AggregationGroup group : groupMap.values()) {
+      String message = group.firstViolation instanceof ConstraintViolation<?> cv
+          ? getMessageFromConstraintViolation(nonNullLocale, isMessagesWithItemNamesAsDefault,
+              cv, params)
+          : getMessageFromBusinessViolation(nonNullLocale, isMessagesWithItemNamesAsDefault,
+              (BusinessViolation) group.firstViolation, params);
+      result.add(
+          new AggregatedMessage(message, group.count, List.copyOf(group.sampleIndexes)));
+    }
+
+    return result;
+  }
+
+  private static void aggregate(Map<AggregationKey, AggregationGroup> groupMap,
+      AggregationKey key, Object violation, @Nullable Integer index, int maxSampleSize) {
+    AggregationGroup group = groupMap.computeIfAbsent(key, k -> new AggregationGroup(violation));
+    group.count++;
+    if (index != null && group.sampleIndexes.size() < maxSampleSize) {
+      group.sampleIndexes.add(index);
+    }
+  }
+
+  /*
+   * Returns the first index in the propertyPath like 3 of "rows[3].name", or null if not exists.
+   */
+  private static @Nullable Integer getFirstIndex(String propertyPath) {
+    int start = propertyPath.indexOf('[');
+    int end = start < 0 ? -1 : propertyPath.indexOf(']', start);
+    if (end <= start + 1) {
+      return null;
+    }
+
+    int index = 0;
+    for (int i = start + 1; i < end; i++) {
+      char c = propertyPath.charAt(i);
+      if (c < '0' || c > '9' || index > (Integer.MAX_VALUE - 9) / 10) {
+        return null;
+      }
+
+      index = index * 10 + (c - '0');
+    }
+
+    return index;
+  }
+
+  /**
+   * Returns message list from {@link Violations}, rendering messages in parallel
+   *     with {@link ForkJoinPool#commonPool()}.
+   *
+   * <p>See {@link #getMessageList(Violations, Locale, boolean, Executor)}.</p>
+   *
+   * @param violations violations
+   * @param locale locale, may be {@code null} which is treated as the fallback locale
+   *     (see {@link LocaleUtil#getFallbackLocale()}).
+   * @param isMessagesWithItemNamesAsDefault true when item names are shown in messages by default.
+   * @return a list of messages
+   */
+  public static List<@NonNull String> getMessageListInParallel(Violations violations,
+      @Nullable Locale locale, boolean isMessagesWithItemNamesAsDefault) {
+    return getMessageList(violations, locale, isMessagesWithItemNamesAsDefault,
+        ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Returns message list from {@link Violations}, rendering messages in parallel
+   *     with {@code executor}.
+   *
+   * <p>It's meant for a large number of violations like the ones from CSV or Excel imports.
+   *     Violations are split into chunks and each chunk is rendered by a task
+   *     submitted to {@code executor}.
+   *     The order of messages is the same as
+   *     {@link #getMessageList(Violations, Locale, boolean)}.</p>
+   *
+   * <p>{@code ItemContainer#customizedItems()} and {@link ValidatorMessageParameterCreator}s
+   *     are called from the threads of {@code executor}.</p>
+   *
+   * @param violations violations
+   * @param locale locale, may be {@code null} which is treated as the fallback locale
+   *     (see {@link LocaleUtil#getFallbackLocale()}).
+   * @param isMessagesWithItemNamesAsDefault true when item names are shown in messages by default.
+   * @param executor executor which runs rendering tasks
+   * @return a list of messages
+   */
+  public static List<@NonNull String> getMessageList(Violations violations,
+      @Nullable Locale locale, boolean isMessagesWithItemNamesAsDefault, Executor executor) {
+    ObjectsUtil.requireNonNull(executor);
+    Locale nonNullLocale = locale == null ? LocaleUtil.getFallbackLocale() : locale;
+    List<@NonNull ConstraintViolation<?>> cvList = violations.getConstraintViolationsView();
+    List<@NonNull BusinessViolation> bvList = violations.getBusinessViolationsView();
+    MessageParameters params = violations.messageParameters();
+    int size = cvList.size() + bvList.size();
+
+    // The suppression of the application environment fallback is carried over to the tasks
+    // so that rendering inside a framework bridge does not recurse into the bridge.
+    boolean suppressesFallback =
+        PropertiesFileUtilResolver.isApplicationEnvironmentFallbackSuppressed();
+
+    // Each task writes to its own range, and join() makes the results visible.
+    String[] messages = new String[size];
+    List<CompletableFuture<Void>> futureList = new ArrayList<>();
+    for (int start = 0; start < size; start += PARALLEL_RENDERING_CHUNK_SIZE) {
+      final int from = start;
+      final int to = Math.min(start + PARALLEL_RENDERING_CHUNK_SIZE, size);
+      Runnable task = () -> {
+        for (int i = from; i < to; i++) {
+          messages[i] = i < cvList.size()
+              ? getMessageFromConstraintViolation(nonNullLocale,
+                  isMessagesWithItemNamesAsDefault, cvList.get(i), params)
+              : getMessageFromBusinessViolation(nonNullLocale,
+                  isMessagesWithItemNamesAsDefault, bvList.get(i - cvList.size()), params);
+        }
+      };
+
+      Runnable taskWithState = !suppressesFallback ? task
+          : () -> PropertiesFileUtilResolver.withApplicationEnvironmentFallbackSuppressed(() -> {
+            task.run();
+            return true;
+          });
+      futureList.add(CompletableFuture.runAsync(taskWithState, executor));
+    }
+
+    try {
+      CompletableFuture.allOf(futureList.toArray(CompletableFuture<?>[]::new)).join();
+
+    } catch (CompletionException ex) {
+      throw ex.getCause() instanceof RuntimeException re ? re : ex;
+    }
+
+    return new ArrayList<>(Arrays.asList(messages));
+  }
+
+  private static String getMessageFromConstraintViolation(Locale locale,
+      boolean isMessagesWithItemNamesAsDefault, ConstraintViolation<?> cv,
+      MessageParameters messageParameters) {
+    return buildMessageFromConstraintViolation(locale, isMessagesWithItemNamesAsDefault, cv,
+        ConstraintViolationBean.createConstraintViolationBean(cv), messageParameters);
+  }
+
   private static String buildMessageFromConstraintViolation(Locale locale,
       boolean isMessagesWithItemNamesAsDefault, ConstraintViolation<?> cv,
       ConstraintViolationBean<?> bean, MessageParameters messageParameters) {
-    String message = null;
-    try {
-      final Map<@NonNull String, @Nullable Object> map = new HashMap<>(bean.getEmbeddedParamMap());
+    boolean showsItemNamePath = messageParameters.showsItemNamePath();
+    return buildMessage(locale, isMessagesWithItemNamesAsDefault, bean.getMessageTemplate(),
+        ConstraintViolationBean.isClassLevel(cv), () -> {
+          final Map<@NonNull String, @Nullable Object> map =
+              new HashMap<>(bean.getEmbeddedParamMap());
+
+          // Put Arg-based parameters directly into the map (resolved by getValidationMessage).
+          addArgBasedParamsToMap(bean.getItemList(), map);
+
+          // Merge external validator params (Arg and ItemNameParam values).
+          map.putAll(ExceptionUtilMessageParameterCreators.getExternalMessageParams(cv, bean));
+          return map;
+        }, showsItemNamePath,
+        () -> MessageUtil.getItemNames(locale, bean.getItemList(), showsItemNamePath,
+            bean.getRootBean()),
+        () -> getDefaultInterpolator().interpolate(bean.getMessageTemplate(),
+            new DefaultMessageContext(bean.getConstraintDescriptor(), bean.getInvalidValueObject()),
+            locale),
+        bean::getMessage, messageParameters);
+  }
 
-      // Put Arg-based parameters directly into the map (resolved by getValidationMessage).
-      addArgBasedParamsToMap(bean, map);
+  private static String buildMessageFromDetachedConstraintViolation(Locale locale,
+      boolean isMessagesWithItemNamesAsDefault, DetachedConstraintViolation cv,
+      MessageParameters messageParameters) {
+    List<@NonNull Item> itemList = cv.toItemList();
+    // invalidValue of class-level constraints is not detached.
+    return buildMessage(locale, isMessagesWithItemNamesAsDefault, cv.messageTemplate(), false,
+        () -> {
+          final Map<@NonNull String, @Nullable Object> map = new HashMap<>(cv.params());
+          map.put("itemAttributes", itemList.toArray(Item[]::new));
+          addArgBasedParamsToMap(itemList, map);
+          return map;
+        }, false, () -> MessageUtil.getItemNames(locale, itemList, false, new Object()),
+        () -> getDefaultInterpolator().interpolate(cv.messageTemplate(),
+            new DefaultMessageContext(new DetachedConstraintDescriptor(cv),
+                cv.params().get("invalidValue")),
+            locale),
+        cv::interpolatedMessage, messageParameters);
+  }
 
-      // Merge external validator params (Arg and ItemNameParam values).
-      map.putAll(getExternalMessageParams(cv, bean));
+  /*
+   * Builds the message of a constraint violation.
+   * Suppliers are used since what they supply is not always needed
+   * and may throw MissingResourceException, which is handled here.
+   */
+  private static String buildMessage(Locale locale, boolean isMessagesWithItemNamesAsDefault,
+      String messageTemplate, boolean isClassLevel,
+      Supplier<Map<@NonNull String, @Nullable Object>> paramMapSupplier,
+      boolean showsItemNamePath, Supplier<String> itemNamesSupplier,
+      Supplier<String> interpolatedMessageSupplier, Supplier<String> fallbackMessageSupplier,
+      MessageParameters messageParameters) {
+    String message = null;
+    Object cacheKey = null;
+    try {
+      final Map<@NonNull String, @Nullable Object> map = paramMapSupplier.get();
 
       // Resolve ItemNameParam (item names) before formatWithArgs.
-      resolveItemNameParams(locale, map, messageParameters.showsItemNamePath());
+      resolveItemNameParams(locale, map, showsItemNamePath);
 
       // If messageParameters.isMessageWithItemName() is not null (= explicitly specified),
       // it's prioritized over isMessagesWithItemNamesAsDefault.
@@ -412,7 +805,30 @@ public class ExceptionUtil {
           ? Objects.requireNonNull(messageParameters.isMessageWithItemName())
           : isMessagesWithItemNamesAsDefault;
 
-      String messageKey = bean.getMessageTemplate().replace("{", "").replace("}", "");
+      String messageKey = messageTemplate.replace("{", "").replace("}", "");
+
+      // Return the cached message if exists.
+      String itemNames = null;
+      if (ExceptionUtilRenderedMessageCache.isEnabled()) {
+        try {
+          itemNames = itemNamesSupplier.get();
+          boolean includesInvalidValue = !isClassLevel && ExceptionUtilRenderedMessageCache
+              .referencesInvalidValue(locale, isMessageWithItemName, messageKey);
+          cacheKey = ExceptionUtilRenderedMessageCache.createKey(messageTemplate, locale,
+              isMessageWithItemName, showsItemNamePath, messageParameters, map, itemNames,
+              includesInvalidValue);
+
+        } catch (RuntimeException ex) {
+          // Item names are not always needed so the message is just rendered without the cache.
+        }
+
+        String cached =
+            cacheKey == null ? null : ExceptionUtilRenderedMessageCache.get(cacheKey);
+        if (cached != null) {
+          return cached;
+        }
+      }
+
       boolean isMessageDefined =
           isMessageWithItemName ? PropertiesFileUtil.hasValidationMessageWithItemName(messageKey)
               : PropertiesFileUtil.hasValidationMessage(locale, messageKey);
@@ -422,15 +838,13 @@ public class ExceptionUtil {
             : PropertiesFileUtil.getValidationMessage(locale, messageKey, map);
       } else {
         // No entry in ecuacion-lib properties files; re-interpolate for the target locale.
-        message = getDefaultInterpolator().interpolate(bean.getMessageTemplate(),
-            new DefaultMessageContext(bean.getConstraintDescriptor(), bean.getInvalidValueObject()),
-            locale != null ? locale : Locale.getDefault());
+        message = interpolatedMessageSupplier.get();
       }
 
       // Replace {0} to itemName.
       if (message.contains("{0}")) {
-        message = MessageFormat.format(message, MessageUtil.getItemNames(locale, bean.getItemList(),
-            messageParameters.showsItemNamePath(), bean.getRootBean()));
+        message = MessageFormat.format(message,
+            itemNames != null ? itemNames : itemNamesSupplier.get());
       }
 
       // add prefix and postfix messages.
@@ -446,34 +860,24 @@ public class ExceptionUtil {
       }
 
     } catch (MissingResourceException ignored) {
-      message = bean.getMessage();
+      message = fallbackMessageSupplier.get();
+    }
+
+    if (cacheKey != null) {
+      ExceptionUtilRenderedMessageCache.put(cacheKey, message);
     }
+
     return message;
   }
 
-  private static void addArgBasedParamsToMap(ConstraintViolationBean<?> cvBean,
+  private static void addArgBasedParamsToMap(List<Item> itemList,
       Map<@NonNull String, @Nullable Object> map) {
-    List<Item> beanList = cvBean.getItemList();
-
-    if (!beanList.get(0).getShowsValue()) {
+    if (!itemList.get(0).getShowsValue()) {
       String key = "jp.ecuacion.lib.core.jakartavalidation.validator.displayStringForHiddenValue";
       map.put("invalidValue", Arg.message(key));
     }
   }
 
-  private static Map<@NonNull String, @Nullable Object> getExternalMessageParams(
-      ConstraintViolation<?> cv, ConstraintViolationBean<?> cvBean) {
-    Map<@NonNull String, @Nullable Object> rtnMap = new HashMap<>();
-
-    String className = cvBean.getValidatorClass() + "MessageParameterCreator";
-    if (ReflectionUtil.classExists(className)) {
-      rtnMap.putAll(((ValidatorMessageParameterCreator) ReflectionUtil.newInstance(className))
-          .create(cv, cvBean.getEmbeddedParamMap()));
-    }
-
-    return rtnMap;
-  }
-
   private static void resolveItemNameParams(@Nullable Locale locale,
       final Map<@NonNull String, @Nullable Object> map, boolean showsItemNamePath) {
     Map<@NonNull String, @Nullable Object> updates = new HashMap<>();
@@ -481,6 +885,9 @@ public class ExceptionUtil {
       if (entry.getValue() instanceof ValidatorMessageParameterCreator.ItemNameParam lep) {
         updates.put(entry.getKey(), MessageUtil.getItemNames(locale, lep.items(),
             showsItemNamePath, Objects.requireNonNull(lep.rootBean())));
+      } else if (entry.getValue() instanceof ItemNameKeysParam param) {
+        updates.put(entry.getKey(),
+            MessageUtil.getItemNames(locale, param.toItemList(), false, new Object()));
       }
     }
     map.putAll(updates);
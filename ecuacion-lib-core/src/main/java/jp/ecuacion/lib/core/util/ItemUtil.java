@@ -15,12 +15,16 @@
  */
 package jp.ecuacion.lib.core.util;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import jp.ecuacion.lib.core.annotation.ItemNameKeyClass;
 import jp.ecuacion.lib.core.item.Item;
 import jp.ecuacion.lib.core.item.ItemContainer;
 import jp.ecuacion.lib.core.util.PropertyPathUtil.ElementOfCollectionCannotBeObtainedException;
+import jp.ecuacion.lib.core.util.internal.PropertyPathUtilParsedPath;
 import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -28,6 +32,18 @@ import org.jspecify.annotations.Nullable;
  */
 public class ItemUtil {
 
+  /*
+   * Caches itemNameKeys of items not found in ItemContainers
+   * per (root bean class, index-less propertyPath).
+   */
+  private static final ClassValue<Map<@NonNull String, @NonNull String>> itemNameKeyCache =
+      new ClassValue<>() {
+        @Override
+        protected Map<@NonNull String, @NonNull String> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
   private record ItemContext(@Nullable ItemContainer itemContainer, String itemPropertyPath) {
   }
 
@@ -44,21 +60,23 @@ public class ItemUtil {
       // Do nothing.
     }
 
-    String rightMostNode = PropertyPathUtil.getRightMostNode(fullPropertyPath);
-    String rightMostRemoved =
-        PropertyPathUtil.getPropertyPathWithoutRightMostNode(fullPropertyPath);
-    String itemPropertyPath = (rightMostRemoved.isEmpty() ? "" : rightMostRemoved + ".")
-        + PropertyPathUtil.toFieldPath(rightMostNode);
-
     if (rootBean instanceof ItemContainer ic) {
-      return new ItemContext(ic, itemPropertyPath);
+      return new ItemContext(ic, toItemPropertyPath(fullPropertyPath));
     } else if (fullPropertyPath1stPart != null && firstChild instanceof ItemContainer ic) {
-      return new ItemContext(ic, itemPropertyPath.substring(fullPropertyPath1stPart.length() + 1));
+      return new ItemContext(ic, toItemPropertyPath(fullPropertyPath)
+          .substring(fullPropertyPath1stPart.length() + 1));
     }
 
     return new ItemContext(null, fullPropertyPath);
   }
 
+  private static String toItemPropertyPath(String fullPropertyPath) {
+    PropertyPathUtilParsedPath parsed = PropertyPathUtilParsedPath.of(fullPropertyPath);
+    String rightMostRemoved = parsed.getPropertyPathWithoutRightMostNode();
+    return (rightMostRemoved.isEmpty() ? "" : rightMostRemoved + ".")
+        + PropertyPathUtil.toFieldPath(parsed.getRightMostNode());
+  }
+
   /**
    * Resolves an {@link Item} from {@code rootBean} and {@code fullPropertyPath}.
    *
@@ -81,17 +99,9 @@ public class ItemUtil {
     boolean showsValue = true;
 
     if (item == null) {
-      Class<?> leafBeanClass = PropertyPathUtil.getClass(rootBean.getClass(),
-          PropertyPathUtil.getPropertyPathWithoutRightMostNode(fullPropertyPath));
-      String itemNameKeyClassFromAnnotation =
-          ReflectionUtil.searchAnnotationPlacedAtClass(leafBeanClass, ItemNameKeyClass.class)
-              .map(ItemNameKeyClass::value).orElse(null);
-      String itemNameKeyClass = StringUtils.isNotEmpty(itemNameKeyClassFromAnnotation)
-          ? itemNameKeyClassFromAnnotation
-          : leafBeanClass.getSimpleName();
-      String itemNameKeyField =
-          PropertyPathUtil.toFieldPath(PropertyPathUtil.getRightMostNode(fullPropertyPath));
-      itemNameKey = StringUtils.uncapitalize(itemNameKeyClass) + "." + itemNameKeyField;
+      itemNameKey = itemNameKeyCache.get(rootBean.getClass()).computeIfAbsent(
+          PropertyPathUtil.toIndexlessPath(fullPropertyPath),
+          path -> resolveItemNameKey(rootBean.getClass(), path));
     } else {
       itemNameKey = item.getItemNameKey();
       showsValue = item.getShowsValue();
@@ -99,4 +109,22 @@ public class ItemUtil {
 
     return new Item(fullPropertyPath).itemNameKey(itemNameKey).showsValue(showsValue);
   }
+
+  /*
+   * Derives itemNameKey from the leaf bean class and the right-most node.
+   * Since the result does not depend on indexes, the index-less path can be passed.
+   */
+  private static String resolveItemNameKey(Class<?> rootBeanClass, String propertyPath) {
+    PropertyPathUtilParsedPath parsed = PropertyPathUtilParsedPath.of(propertyPath);
+    Class<?> leafBeanClass =
+        PropertyPathUtil.getClass(rootBeanClass, parsed.getPropertyPathWithoutRightMostNode());
+    String itemNameKeyClassFromAnnotation =
+        ReflectionUtil.searchAnnotationPlacedAtClass(leafBeanClass, ItemNameKeyClass.class)
+            .map(ItemNameKeyClass::value).orElse(null);
+    String itemNameKeyClass = StringUtils.isNotEmpty(itemNameKeyClassFromAnnotation)
+        ? itemNameKeyClassFromAnnotation
+        : leafBeanClass.getSimpleName();
+    String itemNameKeyField = PropertyPathUtil.toFieldPath(parsed.getRightMostNode());
+    return StringUtils.uncapitalize(itemNameKeyClass) + "." + itemNameKeyField;
+  }
 }
@@ -19,10 +19,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import jp.ecuacion.lib.core.item.Item;
 import jp.ecuacion.lib.core.util.PropertiesFileUtil.Arg;
 import jp.ecuacion.lib.core.util.enums.PropertiesFileUtilFileKindEnum;
+import jp.ecuacion.lib.core.util.internal.PropertiesFileUtilBundleReader;
 import org.apache.commons.lang3.StringUtils;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -39,42 +43,99 @@ public class MessageUtil {
   private static final String ipf = "jp.ecuacion.lib.core.common.itemName.";
   private static final String ppf = "jp.ecuacion.lib.core.common.itemNamePath.";
 
+  /*
+   * Caches symbols per locale and rendered item names
+   * per (locale, itemNameKey, collection layers of the right-most node)
+   * since they depend only on properties files.
+   * They are discarded when PropertiesFileUtilBundleReader's generation changes.
+   */
+  private static final int MAX_CACHE_SIZE = 4096;
+  private static final Map<Optional<Locale>, Symbols> symbolsCache = new ConcurrentHashMap<>();
+  private static final Map<ItemNameCacheKey, String> itemNameCache = new ConcurrentHashMap<>();
+  private static volatile long cacheGeneration = PropertiesFileUtilBundleReader.getGeneration();
+
+  private record Symbols(String separator, String prependSymbol, String appendSymbol,
+      String pathString, String pathSeparator) {
+  }
+
+  private record ItemNameCacheKey(@Nullable Locale locale, String itemNameKey,
+      String collectionLayers) {
+  }
+
   /**
    * Returns an array of item names considering prependSymbol, appendSymbol and separator.
    */
   public static String getItemNames(@Nullable Locale locale, List<@NonNull Item> itemList,
       boolean showsItemNamePath, Object rootBean) {
-    final String separator = PropertiesFileUtil.getMessage(locale, ipf + "separator");
-    final String prependSymbol = PropertiesFileUtil.getMessage(locale, ipf + "prependSymbol");
-    final String appendSymbol = PropertiesFileUtil.getMessage(locale, ipf + "appendSymbol");
+    final Symbols symbols = getSymbols(locale);
 
     List<@NonNull String> itemNameList = new ArrayList<>();
     for (Item infoBean : itemList) {
       Objects.requireNonNull(infoBean);
-      String itemName = getItemName(locale, infoBean, prependSymbol, appendSymbol);
+      String itemName = getItemName(locale, infoBean, symbols);
 
       if (showsItemNamePath) {
-        itemName =
-            addItemNamePath(locale, rootBean, infoBean, itemName, prependSymbol, appendSymbol);
+        itemName = addItemNamePath(locale, rootBean, infoBean, itemName, symbols);
       }
 
       itemNameList.add(itemName);
     }
 
-    String rtn = StringUtil.getSeparatedValuesString(itemNameList, separator);
+    String rtn = StringUtil.getSeparatedValuesString(itemNameList, symbols.separator());
 
     return StringUtils.capitalize(rtn);
   }
 
-  private static String getItemName(@Nullable Locale locale, Item item, final String prependSymbol,
-      final String appendSymbol) {
+  private static Symbols getSymbols(@Nullable Locale locale) {
+    long generation = PropertiesFileUtilBundleReader.getGeneration();
+    if (generation != cacheGeneration) {
+      symbolsCache.clear();
+      itemNameCache.clear();
+      cacheGeneration = generation;
+    }
+
+    return symbolsCache.computeIfAbsent(Optional.ofNullable(locale),
+        key -> new Symbols(PropertiesFileUtil.getMessage(locale, ipf + "separator"),
+            PropertiesFileUtil.getMessage(locale, ipf + "prependSymbol"),
+            PropertiesFileUtil.getMessage(locale, ipf + "appendSymbol"),
+            PropertiesFileUtil.getMessage(locale, ppf + "string"),
+            PropertiesFileUtil.getMessage(locale, ppf + "separator")));
+  }
 
-    String itemNameKey = item.getItemNameKey();
-    List<@NonNull String> collectionLayerList =
-        extractCollectionLayers(PropertyPathUtil.getRightMostNode(item.getDisplayPropertyPath()));
+  private static String getItemName(@Nullable Locale locale, Item item, Symbols symbols) {
+    String rightMostNode = PropertyPathUtil.getRightMostNode(item.getDisplayPropertyPath());
 
-    String itemName =
-        prependSymbol + PropertiesFileUtil.getItemName(locale, itemNameKey) + appendSymbol;
+    // The field name part does not affect the result so only collection layers are kept.
+    int layersStart = rightMostNode.indexOf("[");
+    int mapKeyStart = rightMostNode.indexOf("<K>");
+    if (layersStart < 0 || (mapKeyStart >= 0 && mapKeyStart < layersStart)) {
+      layersStart = mapKeyStart;
+    }
+
+    String collectionLayers = layersStart < 0 ? "" : rightMostNode.substring(layersStart);
+    ItemNameCacheKey key = new ItemNameCacheKey(locale, item.getItemNameKey(), collectionLayers);
+
+    String itemName = itemNameCache.get(key);
+    if (itemName != null) {
+      return itemName;
+    }
+
+    if (itemNameCache.size() >= MAX_CACHE_SIZE) {
+      itemNameCache.clear();
+    }
+
+    itemName = renderItemName(locale, key.itemNameKey(), collectionLayers, symbols);
+    itemNameCache.put(key, itemName);
+    return itemName;
+  }
+
+  private static String renderItemName(@Nullable Locale locale, String itemNameKey,
+      String collectionLayers, Symbols symbols) {
+
+    List<@NonNull String> collectionLayerList = extractCollectionLayers(collectionLayers);
+
+    String itemName = symbols.prependSymbol() + PropertiesFileUtil.getItemName(locale, itemNameKey)
+        + symbols.appendSymbol();
 
     if (collectionLayerList.isEmpty()) {
       return itemName;
@@ -89,8 +150,7 @@ public class MessageUtil {
       KeywordAndIndex ki = determineKeyword(itemNameKeyPart, index);
       String itemNamePath = PropertiesFileUtil.getMessage(locale, ipf + ki.keyword(), ki.index());
 
-      sb.append(
-          (i == 0 ? "" : PropertiesFileUtil.getMessage(locale, ppf + "separator")) + itemNamePath);
+      sb.append((i == 0 ? "" : symbols.pathSeparator()) + itemNamePath);
     }
 
     return PropertiesFileUtil.getMessage(locale, ipf + "collectionItemName", itemName,
@@ -155,10 +215,7 @@ public class MessageUtil {
   }
 
   private static String addItemNamePath(@Nullable Locale locale, Object rootBean, Item item,
-      String itemName, final String prependSymbol, final String appendSymbol) {
-
-    final String pstring = PropertiesFileUtil.getMessage(locale, ppf + "string");
-    final String pseparator = PropertiesFileUtil.getMessage(locale, ppf + "separator");
+      String itemName, Symbols symbols) {
 
     // Cut each itemNamePath and put them into a list.
     String leafBeanPropertyPath =
@@ -179,10 +236,11 @@ public class MessageUtil {
 
     List<@NonNull String> modifiedPathItemNameList =
         itemNamePathList.stream().map(path -> getItemName(locale,
-            ItemUtil.resolveItem(path, rootBean), prependSymbol, appendSymbol)).toList();
+            ItemUtil.resolveItem(path, rootBean), symbols)).toList();
 
-    String pathString = StringUtil.getSeparatedValuesString(modifiedPathItemNameList, pseparator);
-    itemName = PropertiesFileUtil.getMessage(locale, pstring, itemName, pathString);
+    String pathString =
+        StringUtil.getSeparatedValuesString(modifiedPathItemNameList, symbols.pathSeparator());
+    itemName = PropertiesFileUtil.getMessage(locale, symbols.pathString(), itemName, pathString);
 
     return itemName;
   }
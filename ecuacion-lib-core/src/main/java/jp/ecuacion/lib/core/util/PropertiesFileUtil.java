@@ -25,9 +25,12 @@ import static jp.ecuacion.lib.core.util.enums.PropertiesFileUtilFileKindEnum.VAL
 import static jp.ecuacion.lib.core.util.enums.PropertiesFileUtilFileKindEnum.VALIDATION_MESSAGES_PATTERN_DESCRIPTIONS;
 import static jp.ecuacion.lib.core.util.enums.PropertiesFileUtilFileKindEnum.VALIDATION_MESSAGES_WITH_ITEM_NAMES;
 
+import java.io.Serializable;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.UnaryOperator;
 import jp.ecuacion.lib.core.util.enums.PropertiesFileUtilFileKindEnum;
 import jp.ecuacion.lib.core.util.internal.PropertiesFileUtilBundleReader;
@@ -586,8 +589,12 @@ public class PropertiesFileUtil {
    *
    * <p>{@link ArgKind#MESSAGE_ID} and {@link ArgKind#FORMATTED_STRING} args resolve to
    * {@link String} via the properties files.</p>
+   *
+   * <p>It's serializable when all the message arguments are serializable.</p>
    */
-  public static class Arg {
+  public static class Arg implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     /**
      * Kinds of {@link Arg}.
@@ -769,6 +776,28 @@ public class PropertiesFileUtil {
     public String resolveAsString() {
       return resolveAsString(null);
     }
+
+    /**
+     * Compares by the kind, file kinds, the value and message args
+     *     (arrays in message args are compared deeply).
+     */
+    @Override
+    public boolean equals(@Nullable Object obj) {
+      if (this == obj) {
+        return true;
+      }
+
+      return obj instanceof Arg other && argKind == other.argKind
+          && Arrays.equals(fileKinds, other.fileKinds)
+          && Objects.equals(argObject, other.argObject)
+          && Arrays.deepEquals(messageArgs, other.messageArgs);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(argKind, Arrays.hashCode(fileKinds), argObject,
+          Arrays.deepHashCode(messageArgs));
+    }
   }
 
 }
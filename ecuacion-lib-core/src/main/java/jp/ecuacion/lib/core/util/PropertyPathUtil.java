@@ -16,13 +16,11 @@
 package jp.ecuacion.lib.core.util;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
+import jp.ecuacion.lib.core.util.internal.PropertyPathUtilAccessor;
+import jp.ecuacion.lib.core.util.internal.PropertyPathUtilClassResolver;
+import jp.ecuacion.lib.core.util.internal.PropertyPathUtilParsedPath;
 import org.apache.commons.lang3.StringUtils;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -111,21 +109,7 @@ public class PropertyPathUtil {
    *     (no parent nodes exist), return the same as the argument value is returned.</p>
    */
   public static String getRightMostNode(String propertyPath) {
-    String rightMostNode = "";
-
-    String pp = propertyPath;
-    while (true) {
-      String removingString = pp.contains(".") ? pp.substring(pp.lastIndexOf(".") + 1) : pp;
-      pp = pp.contains(".") ? pp.substring(0, pp.lastIndexOf(".")) : "";
-
-      rightMostNode = removingString + (rightMostNode.isEmpty() ? "" : ".") + rightMostNode;
-
-      if (Arrays.stream(COLLECTION_ELS).anyMatch(removingString::contains)) {
-        continue;
-      }
-
-      return rightMostNode;
-    }
+    return PropertyPathUtilParsedPath.of(propertyPath).getRightMostNode();
   }
 
   /**
@@ -142,48 +126,18 @@ public class PropertyPathUtil {
    * </ul>
    */
   public static String getPropertyPathWithoutRightMostNode(String propertyPath) {
-    if (propertyPath.contains(".")) {
-      String rtn = propertyPath.substring(0,
-          propertyPath.length() - getRightMostNode(propertyPath).length());
-
-      return rtn.endsWith(".") ? rtn.substring(0, rtn.length() - 1) : rtn;
-
-    } else {
-      return "";
-    }
+    return PropertyPathUtilParsedPath.of(propertyPath).getPropertyPathWithoutRightMostNode();
   }
 
   /**
    * Returns node list from propertyPath.
    *
    * <p>About {@code node}, see {@link #getRightMostNode(String)}.</p>
+   *
+   * <p>The returned list is unmodifiable.</p>
    */
   public static List<@NonNull String> getNodeList(String propertyPath) {
-    List<@NonNull String> rtnList = new ArrayList<>();
-
-    String pp = propertyPath;
-    while (true) {
-      if (pp.isEmpty()) {
-        return rtnList.reversed();
-      }
-
-      String rightMostNode = getRightMostNode(pp);
-      rtnList.add(rightMostNode);
-
-      pp = pp.equals(rightMostNode) ? ""
-          : pp.substring(0, pp.length() - (rightMostNode.length() + 1));
-    }
-  }
-
-  private static String toFieldPathFromNode(String node) {
-    node = node.contains("<K>") ? node.substring(0, node.indexOf("<K>")) : node;
-    node = node.contains("[") ? node.substring(0, node.indexOf("[")) : node;
-
-    return node;
-  }
-
-  private static String extractIndex(String node) {
-    return node.substring(node.indexOf("[") + 1, node.indexOf("]"));
+    return PropertyPathUtilParsedPath.of(propertyPath).getNodeStringList();
   }
 
   /**
@@ -203,9 +157,7 @@ public class PropertyPathUtil {
    * </table>
    */
   public static String toFieldPath(String propertyPath) {
-    List<@NonNull String> nodeList = getNodeList(propertyPath).stream()
-        .map(PropertyPathUtil::toFieldPathFromNode).toList();
-    return String.join(".", nodeList);
+    return PropertyPathUtilParsedPath.of(propertyPath).getFieldPath();
   }
 
   /**
@@ -269,40 +221,7 @@ public class PropertyPathUtil {
    *     (e.g., {@code bookList[].title}) returns the path unchanged.</p>
    */
   public static String toIndexlessPath(String propertyPath) {
-    StringBuilder sb = new StringBuilder();
-    String tmpPropertyPath = propertyPath;
-
-    // Remove characters between "[" and "]".
-    while (true) {
-      if (tmpPropertyPath.isEmpty()) {
-        break;
-
-      } else if (!tmpPropertyPath.contains("]")) {
-        sb.append(tmpPropertyPath);
-        break;
-      }
-
-      sb.append(tmpPropertyPath.substring(0, tmpPropertyPath.indexOf("[")) + "[]");
-      tmpPropertyPath = tmpPropertyPath.substring(tmpPropertyPath.indexOf("]") + 1);
-    }
-
-    // Remove element keywords.
-    tmpPropertyPath = sb.toString();
-    List<@NonNull String> list =
-        Arrays.asList(
-            new String[] {".<list element>", ".<iterable element>", ".<map key>", ".<map value>"});
-    for (String keyword : list) {
-      while (true) {
-        if (tmpPropertyPath.contains(keyword)) {
-          tmpPropertyPath = tmpPropertyPath.replace(keyword, "");
-
-        } else {
-          break;
-        }
-      }
-    }
-
-    return tmpPropertyPath;
+    return PropertyPathUtilParsedPath.of(propertyPath).getIndexlessPath();
   }
 
   /**
@@ -330,7 +249,11 @@ public class PropertyPathUtil {
    * {@code rootBeanClass}.
    *
    * <p>Supports collection notation (e.g. {@code "list[0]"}, {@code "map[key]"})
-   *     and resolves generic type arguments for parameterized types.</p>
+   *     and resolves generic type arguments for parameterized types.
+   *     Arrays, Lists, Sets, Map keys and values, and records are supported.</p>
+   *
+   * <p>The result is cached per ({@code rootBeanClass}, index-less path),
+   *     so reflection runs only on the first call.</p>
    *
    * <p>When {@code propertyPath} is empty, {@code rootBeanClass} itself is returned.</p>
    *
@@ -339,46 +262,7 @@ public class PropertyPathUtil {
    * @return resolved class
    */
   public static Class<?> getClass(Class<?> rootBeanClass, String propertyPath) {
-    Class<?> tmpClass = rootBeanClass;
-    for (String node : getNodeList(propertyPath)) {
-      String nodeWithoutCollectionPart = toFieldPath(node);
-
-      try {
-        Field tmpField = ReflectionUtil.getDeclaredField(tmpClass, nodeWithoutCollectionPart);
-        tmpClass = tmpField.getType();
-
-        if (!node.contains("[")) {
-          continue;
-        }
-
-        // Count the number of "[" in propertyPath.
-        int count = node.length() - node.replaceAll("\\[", "").length();
-
-        Type type = tmpField.getGenericType();
-        for (int i = 0; i < count; i++) {
-          if (type instanceof Class<?> cls && cls.isArray()) {
-            // Array: use component type
-            type = cls.getComponentType();
-          } else {
-            // Collection or Map: use type argument
-            Type[] typeArgs = ((ParameterizedType) type).getActualTypeArguments();
-            // Map value access (no <K> in node): use 2nd type arg; others use 1st
-            boolean isMapValueAccess = !node.contains("<K>")
-                && Map.class.isAssignableFrom(
-                    (Class<?>) ((ParameterizedType) type).getRawType());
-            type = typeArgs[isMapValueAccess ? 1 : 0];
-          }
-        }
-
-        tmpClass = type instanceof Class<?> c ? c
-            : Class.forName(Objects.requireNonNull(type).getTypeName());
-
-      } catch (Exception ex) {
-        throw new RuntimeException(ex);
-      }
-    }
-
-    return tmpClass;
+    return PropertyPathUtilClassResolver.getClass(rootBeanClass, propertyPath);
   }
 
   /**
@@ -387,57 +271,15 @@ public class PropertyPathUtil {
    * <p>Supports dot-separated paths (e.g. {@code "dept.name"}) and collection index
    *     notation (e.g. {@code "list[0]"}).</p>
    *
+   * <p>The propertyPath is compiled into a chain of field getters on the first call
+   *     and the chain is cached per class of {@code object}.</p>
+   *
    * @param object root object
    * @param propertyPath path from root object to the target field
    * @return field value, or {@code null} if the field holds {@code null}
    */
   public static @Nullable Object getValue(Object object, String propertyPath) {
-    while (true) {
-      if (propertyPath.contains(".")) {
-        @NonNull
-        String leftMostOfPropertyPath = propertyPath.substring(0, propertyPath.indexOf("."));
-        @NonNull
-        String theRestOfPropertyPath = propertyPath.substring(propertyPath.indexOf(".") + 1);
-
-        return getValue(Objects.requireNonNull(getValue(object, leftMostOfPropertyPath)),
-            theRestOfPropertyPath);
-
-      } else {
-        if (propertyPath.contains("[")) {
-          String fieldName = toFieldPathFromNode(propertyPath);
-          // It's string because it can be non-number value when the validated object is Map.
-          String index = extractIndex(propertyPath);
-
-          Field rootField =
-              ReflectionUtil.getDeclaredField(object.getClass(), fieldName);
-          Object objs = ReflectionUtil.getFieldValue(object, rootField);
-
-          // Resolve the field for array or List.
-          // Occur an exception for any other collections
-          // because it's impossible to specify the element in Set
-          // (since the propertyPath is like "childSet[]")
-          // and Map (since the propertyPath is like "childMap[test]"
-          // where test is the key of them map entry. Any type can be key and
-          // it's impossible to resolve it).
-          if (objs instanceof Object[] arr) {
-            return arr[Integer.parseInt(index)];
-
-          } else if (objs instanceof List<?> list) {
-            return list.get(Integer.parseInt(index));
-
-          } else {
-            throw new ElementOfCollectionCannotBeObtainedException(
-                "Multiple value types other than array and List "
-                    + "are not supported. The type of value: "
-                    + Objects.requireNonNull(objs).getClass().getCanonicalName());
-          }
-
-        } else {
-          Field rootField = ReflectionUtil.getDeclaredField(object.getClass(), propertyPath);
-          return ReflectionUtil.getFieldValue(object, rootField);
-        }
-      }
-    }
+    return PropertyPathUtilAccessor.getValue(object, propertyPath);
   }
 
   /**
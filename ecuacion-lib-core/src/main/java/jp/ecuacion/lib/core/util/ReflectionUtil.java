@@ -17,8 +17,10 @@ package jp.ecuacion.lib.core.util;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
@@ -31,6 +33,34 @@ import org.jspecify.annotations.Nullable;
  */
 public class ReflectionUtil {
 
+  /**
+   * Caches fields per (class, field name), including non-existent ones.
+   *
+   * <p>{@link ClassValue} is used so the cache of a class is discarded
+   *     together with the class when it is unloaded (like on the hot reload of web applications).
+   *     </p>
+   */
+  private static final ClassValue<Map<@NonNull String, @NonNull Optional<Field>>> fieldCache =
+      new ClassValue<>() {
+        @Override
+        protected Map<@NonNull String, @NonNull Optional<Field>> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  /**
+   * Caches the result of {@link #searchAnnotationPlacedAtClass(Class, Class)}
+   *     per (class, annotation class).
+   */
+  private static final ClassValue<Map<Class<? extends Annotation>, Optional<Annotation>>>
+      annotationCache = new ClassValue<>() {
+        @Override
+        protected Map<Class<? extends Annotation>, Optional<Annotation>> computeValue(
+            Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
   /**
    * Returns true when designated class exists.
    *
@@ -74,10 +104,25 @@ public class ReflectionUtil {
    * <p>Search ends when it finds the first annotation.
    *     Even if there is another annotation of the same class,
    *     it ignores it and returns the first found annotation.</p>
+   *
+   * <p>The result is cached per (class, annotation class).</p>
    */
   @SuppressWarnings("null")
   public static <A extends Annotation> @NonNull Optional<@NonNull A> searchAnnotationPlacedAtClass(
       Class<?> classOfTargetInstance, Class<A> annotationClass) {
+    if (classOfTargetInstance == null) {
+      return Optional.empty();
+    }
+
+    return annotationCache.get(classOfTargetInstance)
+        .computeIfAbsent(annotationClass,
+            key -> searchAnnotationPlacedAtClassWithoutCache(classOfTargetInstance, key))
+        .map(annotationClass::cast);
+  }
+
+  @SuppressWarnings("null")
+  private static Optional<Annotation> searchAnnotationPlacedAtClassWithoutCache(
+      Class<?> classOfTargetInstance, Class<? extends Annotation> annotationClass) {
     while (true) {
       // No more ancestors
       // Equals to null when it's an anonymous class created directly from Interface.
@@ -85,7 +130,7 @@ public class ReflectionUtil {
         return Optional.empty();
       }
 
-      A an = (A) classOfTargetInstance.getAnnotation(annotationClass);
+      Annotation an = classOfTargetInstance.getAnnotation(annotationClass);
       if (an != null) {
         return Optional.of(an);
       }
@@ -100,6 +145,11 @@ public class ReflectionUtil {
    * <p>The argument {@code simpleFieldName} must not contain {@code "."} or {@code "["}
    *     (use {@link PropertyPathUtil#getField(Class, String)} for path-based lookup).</p>
    *
+   * <p>The result is cached per (class, field name). The absence of the field is also cached
+   *     so the search is not repeated for non-existent fields.
+   *     Like {@link Class#getDeclaredField(String)}, a new {@link Field} instance is returned
+   *     at every call, so {@code setAccessible} by a caller does not affect other callers.</p>
+   *
    * @param cls starting class
    * @param simpleFieldName field name without path notation
    * @return {@link Field}
@@ -110,22 +160,35 @@ public class ReflectionUtil {
           "fieldName with index (like value[0]) not acceptable. fieldName: " + simpleFieldName);
     }
 
-    Exception ex = null;
+    Optional<Field> field = fieldCache.get(cls).computeIfAbsent(simpleFieldName,
+        name -> getDeclaredFieldWithoutCache(cls, name));
+
+    Field cachedField = field.orElseThrow(
+        () -> new RuntimeException(new NoSuchFieldException(simpleFieldName)));
+
+    try {
+      return cachedField.getDeclaringClass().getDeclaredField(simpleFieldName);
+
+    } catch (NoSuchFieldException ex) {
+      throw new RuntimeException(ex);
+    }
+  }
+
+  private static Optional<Field> getDeclaredFieldWithoutCache(Class<?> cls,
+      String simpleFieldName) {
     while (true) {
       if (cls.equals(Object.class)) {
-        break;
+        return Optional.empty();
       }
-      try {
-        return cls.getDeclaredField(simpleFieldName);
-      } catch (Exception exception) {
-        if (ex == null) {
-          ex = exception;
+
+      for (Field field : cls.getDeclaredFields()) {
+        if (field.getName().equals(simpleFieldName)) {
+          return Optional.of(field);
         }
       }
+
       cls = Objects.requireNonNull(cls.getSuperclass());
     }
-
-    throw new RuntimeException(ex);
   }
 
   /**
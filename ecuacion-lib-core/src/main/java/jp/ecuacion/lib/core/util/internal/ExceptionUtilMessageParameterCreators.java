@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2012 ecuacion.jp (info@ecuacion.jp)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.ecuacion.lib.core.util.internal;
+
+import jakarta.validation.ConstraintViolation;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import jp.ecuacion.lib.core.jakartavalidation.constraints.ValidatorMessageParameterCreator;
+import jp.ecuacion.lib.core.jakartavalidation.internal.ConstraintViolationBean;
+import jp.ecuacion.lib.core.util.ExceptionUtil;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Finds {@link ValidatorMessageParameterCreator}s and creates message parameters with them
+ *     for {@link ExceptionUtil} and {@code DetachedViolations}.
+ */
+public final class ExceptionUtilMessageParameterCreators {
+
+  /**
+   * Caches {@link ValidatorMessageParameterCreator} instances per constraint annotation class.
+   *
+   * <p>Creators are stateless, so one instance per class is shared.
+   *     Validators without a creator are also cached so the class lookup is done only once.
+   *     {@link ClassValue} is used so the cache of an annotation class is discarded
+   *     together with the class when it is unloaded (like on the hot reload of web applications),
+   *     and creators are loaded by the class loader of the annotation class.</p>
+   */
+  private static final ClassValue<Optional<ValidatorMessageParameterCreator>>
+      messageParameterCreatorMap = new ClassValue<>() {
+        @Override
+        protected Optional<ValidatorMessageParameterCreator> computeValue(Class<?> type) {
+          return createMessageParameterCreator(type);
+        }
+      };
+
+  private ExceptionUtilMessageParameterCreators() {}
+
+  /**
+   * Returns the message parameters created by the {@link ValidatorMessageParameterCreator}
+   *     of the validator, or an empty map if the validator does not have one.
+   *
+   * @param cv constraint violation
+   * @param cvBean constraint violation bean created from {@code cv}
+   * @return map of parameter name to value
+   */
+  public static Map<@NonNull String, @Nullable Object> getExternalMessageParams(
+      ConstraintViolation<?> cv, ConstraintViolationBean<?> cvBean) {
+    Map<@NonNull String, @Nullable Object> rtnMap = new HashMap<>();
+
+    messageParameterCreatorMap
+        .get(Objects.requireNonNull(cv.getConstraintDescriptor().getAnnotation()).annotationType())
+        .ifPresent(creator -> rtnMap.putAll(creator.create(cv, cvBean.getEmbeddedParamMap())));
+
+    return rtnMap;
+  }
+
+  private static Optional<ValidatorMessageParameterCreator> createMessageParameterCreator(
+      Class<?> annotationClass) {
+    String className = annotationClass.getName() + "MessageParameterCreator";
+    try {
+      Class<?> cls = Class.forName(className, true, annotationClass.getClassLoader());
+      return Optional.of((ValidatorMessageParameterCreator) cls.getConstructor().newInstance());
+
+    } catch (ClassNotFoundException ex) {
+      return Optional.empty();
+
+    } catch (ReflectiveOperationException ex) {
+      throw new RuntimeException(ex);
+    }
+  }
+}
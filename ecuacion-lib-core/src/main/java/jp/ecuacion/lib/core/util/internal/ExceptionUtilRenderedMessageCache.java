@@ -0,0 +1,260 @@
+/*
+ * Copyright © 2012 ecuacion.jp (info@ecuacion.jp)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.ecuacion.lib.core.util.internal;
+
+import static jp.ecuacion.lib.core.util.enums.PropertiesFileUtilFileKindEnum.VALIDATION_MESSAGES;
+import static jp.ecuacion.lib.core.util.enums.PropertiesFileUtilFileKindEnum.VALIDATION_MESSAGES_WITH_ITEM_NAMES;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import jp.ecuacion.lib.core.util.ExceptionUtil;
+import jp.ecuacion.lib.core.util.PropertiesFileUtil.Arg;
+import jp.ecuacion.lib.core.violation.Violations.MessageParameters;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Caches messages rendered from {@code ConstraintViolation}s in {@link ExceptionUtil}.
+ *
+ * <p>Violations from bulk imports are often identical except the row index,
+ *     so the rendered message is cached per
+ *     (message template, locale, with or without item names, message parameters,
+ *     message parameter map, rendered item names).
+ *     The cache is disabled by default and enabled by {@link #setMaxSize(int)}.
+ *     It is cleared when it reaches the max size
+ *     or {@link PropertiesFileUtilBundleReader#getGeneration()} changes.</p>
+ *
+ * <p>Values in the message parameter map are compared by {@code equals}.
+ *     When the map contains a value of a class which does not override {@code equals}
+ *     (compared by identity), the message is not cached.
+ *     {@code itemAttributes} ({@code Item[]}) is excluded
+ *     since it's represented by the rendered item names.</p>
+ *
+ * <p>{@code invalidValue} is excluded too unless the message references it
+ *     (see {@link #referencesInvalidValue(Locale, boolean, String)}),
+ *     so violations of different values share the message.
+ *     It's always excluded for class-level constraints whose invalid value is the bean itself.</p>
+ */
+public final class ExceptionUtilRenderedMessageCache {
+
+  private static final String ITEM_ATTRIBUTES = "itemAttributes";
+
+  private static final String INVALID_VALUE = "invalidValue";
+
+  private static volatile int maxSize = 0;
+
+  private static volatile long cacheGeneration = PropertiesFileUtilBundleReader.getGeneration();
+
+  private static final Map<@NonNull Key, @NonNull String> cache = new ConcurrentHashMap<>();
+
+  private static final Map<@NonNull MessageKey, @NonNull Boolean> referencesInvalidValueMap =
+      new ConcurrentHashMap<>();
+
+  private static final ClassValue<Boolean> equalsOverriddenMap = new ClassValue<>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      try {
+        return type.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+
+      } catch (NoSuchMethodException ex) {
+        return false;
+      }
+    }
+  };
+
+  /*
+   * Is returned from normalize() when the value cannot be a part of the key.
+   */
+  private static enum NotCacheable {
+    INSTANCE
+  }
+
+  private ExceptionUtilRenderedMessageCache() {}
+
+  private static record MessageKey(Locale locale, boolean isMessageWithItemName,
+      String messageKey) {
+  }
+
+  private static record Key(String messageTemplate, Locale locale, boolean isMessageWithItemName,
+      boolean showsItemNamePath, @Nullable Arg messagePrefix, @Nullable Arg messagePostfix,
+      Map<@NonNull String, @Nullable Object> paramMap, String itemNames) {
+  }
+
+  /**
+   * Sets the max number of cached messages. {@code 0} disables the cache.
+   *
+   * @param size max size, must be {@code 0} or more
+   */
+  public static void setMaxSize(int size) {
+    if (size < 0) {
+      throw new IllegalArgumentException("size must be 0 or more. size: " + size);
+    }
+
+    maxSize = size;
+    cache.clear();
+    referencesInvalidValueMap.clear();
+  }
+
+  /**
+   * Returns whether the cache is enabled.
+   *
+   * @return {@code true} when the max size is more than {@code 0}
+   */
+  public static boolean isEnabled() {
+    return maxSize > 0;
+  }
+
+  /**
+   * Returns whether the message in ValidationMessages[WithItemNames].properties
+   *     may reference {@code invalidValue}.
+   *
+   * <p>Messages which are not defined (rendered by the default interpolator)
+   *     and the ones with references to other messages ({@code #{...}})
+   *     are treated as referencing it.</p>
+   *
+   * @param locale locale
+   * @param isMessageWithItemName whether the message is with item names
+   * @param messageKey message key
+   * @return {@code true} when the message may reference {@code invalidValue}
+   */
+  public static boolean referencesInvalidValue(Locale locale, boolean isMessageWithItemName,
+      String messageKey) {
+    refreshGeneration();
+
+    MessageKey key = new MessageKey(locale, isMessageWithItemName, messageKey);
+    Boolean references = referencesInvalidValueMap.get(key);
+    if (references != null) {
+      return references;
+    }
+
+    String rawMessage = PropertiesFileUtilResolver.getRawPropIfExists(locale,
+        isMessageWithItemName ? VALIDATION_MESSAGES_WITH_ITEM_NAMES : VALIDATION_MESSAGES,
+        messageKey);
+    references =
+        rawMessage == null || rawMessage.contains(INVALID_VALUE) || rawMessage.contains("#{");
+
+    if (referencesInvalidValueMap.size() >= maxSize) {
+      referencesInvalidValueMap.clear();
+    }
+
+    referencesInvalidValueMap.put(key, references);
+    return references;
+  }
+
+  /**
+   * Creates a key, or returns {@code null} when the message cannot be cached.
+   *
+   * @param messageTemplate message template
+   * @param locale locale
+   * @param isMessageWithItemName whether the message is with item names
+   * @param showsItemNamePath whether item name paths are shown
+   * @param messageParameters messageParameters
+   * @param paramMap message parameter map
+   * @param itemNames rendered item names
+   * @param includesInvalidValue whether {@code invalidValue} in the map is a part of the key
+   * @return key, may be {@code null}
+   */
+  public static @Nullable Object createKey(String messageTemplate, Locale locale,
+      boolean isMessageWithItemName, boolean showsItemNamePath,
+      MessageParameters messageParameters, Map<@NonNull String, @Nullable Object> paramMap,
+      String itemNames, boolean includesInvalidValue) {
+    Map<@NonNull String, @Nullable Object> normalizedMap = new HashMap<>();
+    for (Map.Entry<@NonNull String, @Nullable Object> entry : paramMap.entrySet()) {
+      if (entry.getKey().equals(ITEM_ATTRIBUTES)
+          || (!includesInvalidValue && entry.getKey().equals(INVALID_VALUE))) {
+        continue;
+      }
+
+      Object value = normalize(entry.getValue());
+      if (value instanceof NotCacheable) {
+        return null;
+      }
+
+      normalizedMap.put(entry.getKey(), value);
+    }
+
+    return new Key(messageTemplate, locale, isMessageWithItemName, showsItemNamePath,
+        messageParameters.getMessagePrefix(), messageParameters.getMessagePostfix(),
+        normalizedMap, itemNames);
+  }
+
+  /**
+   * Returns the cached message, or {@code null} if not cached.
+   *
+   * @param key key created by {@link #createKey}
+   * @return message, may be {@code null}
+   */
+  public static @Nullable String get(Object key) {
+    refreshGeneration();
+    return cache.get((Key) key);
+  }
+
+  /*
+   * Clears the caches when properties files are reloaded.
+   */
+  private static void refreshGeneration() {
+    long generation = PropertiesFileUtilBundleReader.getGeneration();
+    if (generation != cacheGeneration) {
+      cache.clear();
+      referencesInvalidValueMap.clear();
+      cacheGeneration = generation;
+    }
+  }
+
+  /**
+   * Stores the message.
+   *
+   * @param key key created by {@link #createKey}
+   * @param message message
+   */
+  public static void put(Object key, String message) {
+    if (cache.size() >= maxSize) {
+      cache.clear();
+    }
+
+    cache.put((Key) key, message);
+  }
+
+  /*
+   * Converts arrays to lists so that they are compared by their elements.
+   */
+  private static @Nullable Object normalize(@Nullable Object value) {
+    if (value == null || value instanceof Class<?>) {
+      return value;
+
+    } else if (value.getClass().isArray()) {
+      List<@Nullable Object> list = new ArrayList<>();
+      for (int i = 0; i < Array.getLength(value); i++) {
+        Object element = normalize(Array.get(value, i));
+        if (element instanceof NotCacheable) {
+          return NotCacheable.INSTANCE;
+        }
+
+        list.add(element);
+      }
+
+      return list;
+
+    } else {
+      return equalsOverriddenMap.get(value.getClass()) ? value : NotCacheable.INSTANCE;
+    }
+  }
+}
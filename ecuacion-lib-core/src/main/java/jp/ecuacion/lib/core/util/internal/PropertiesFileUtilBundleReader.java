@@ -26,6 +26,7 @@ import java.util.MissingResourceException;
 import java.util.Objects;
 import java.util.ResourceBundle;
 import java.util.ResourceBundle.Control;
+import java.util.concurrent.atomic.AtomicLong;
 import jp.ecuacion.lib.core.util.ObjectsUtil;
 import jp.ecuacion.lib.core.util.StringUtil;
 import jp.ecuacion.lib.core.util.enums.PropertiesFileUtilFileKindEnum;
@@ -69,6 +70,12 @@ public class PropertiesFileUtilBundleReader {
 
   private static final List<@NonNull String> dynamicPostfixList = new ArrayList<>();
 
+  /*
+   * Is incremented when read values may change,
+   * so that values derived from properties files can be cached outside.
+   */
+  private static final AtomicLong generation = new AtomicLong();
+
   /**
    * Offers a way to add postfixes dynamically.
    *
@@ -80,9 +87,23 @@ public class PropertiesFileUtilBundleReader {
   public static void addToDynamicPostfixList(String postfix) {
     if (!dynamicPostfixList.contains(postfix)) {
       dynamicPostfixList.add(postfix);
+      generation.incrementAndGet();
     }
   }
 
+  /**
+   * Returns the number which changes when values read from properties files may change,
+   *     that is, when a postfix is added or {@link #clearCache()} is called.
+   *
+   * <p>Caches of values derived from properties files are supposed to be discarded
+   *     when the number changes.</p>
+   *
+   * @return generation
+   */
+  public static long getGeneration() {
+    return generation.get();
+  }
+
   /*
    * Is accessible only from the same package for unit test.
    */
@@ -103,6 +124,7 @@ public class PropertiesFileUtilBundleReader {
    */
   public static void clearCache() {
     ResourceBundle.clearCache();
+    generation.incrementAndGet();
   }
 
   /**
@@ -131,7 +131,7 @@ public class PropertiesFileUtilResolver {
    * @return the resolved value, or {@code null}
    */
   static @Nullable String getApplicationEnvironmentFallbackValue(String key) {
-    if (Boolean.TRUE.equals(suppressesApplicationEnvironmentFallback.get())) {
+    if (isApplicationEnvironmentFallbackSuppressed()) {
       return null;
     }
 
@@ -153,6 +153,10 @@ public class PropertiesFileUtilResolver {
    * @return the result of {@code action}
    */
   public static <T> T withApplicationEnvironmentFallbackSuppressed(Supplier<T> action) {
+    if (isApplicationEnvironmentFallbackSuppressed()) {
+      return action.get();
+    }
+
     suppressesApplicationEnvironmentFallback.set(true);
     try {
       return action.get();
@@ -162,6 +166,18 @@ public class PropertiesFileUtilResolver {
     }
   }
 
+  /**
+   * Returns {@code true} while {@link #applicationEnvironmentFallbackResolver} is suppressed
+   *     for the current thread.
+   *
+   * <p>Used to carry the state over to other threads which work for the current thread.</p>
+   *
+   * @return {@code true} when suppressed
+   */
+  public static boolean isApplicationEnvironmentFallbackSuppressed() {
+    return Boolean.TRUE.equals(suppressesApplicationEnvironmentFallback.get());
+  }
+
   /**
    * Clears the cached contents of properties files, so that the next read re-reads
    * files from disk.
@@ -252,6 +268,20 @@ public class PropertiesFileUtilResolver {
         fileKind.evaluatesElExpression());
   }
 
+  /**
+   * Returns the raw property value without {@code #{...}} and {@code ${...}} resolution,
+   *     or {@code null} if the key does not exist.
+   *
+   * @param locale locale, may be {@code null} which means no {@code Locale} specified.
+   * @param fileKind the file kind
+   * @param key the key of the property
+   * @return the raw value, may be {@code null}
+   */
+  public static @Nullable String getRawPropIfExists(@Nullable Locale locale,
+      PropertiesFileUtilFileKindEnum fileKind, String key) {
+    return obtainBundleReader(fileKind).getPropIfExists(locale, key);
+  }
+
   /**
    * Returns whether the given key exists in the specified file kind (locale-independent).
    *
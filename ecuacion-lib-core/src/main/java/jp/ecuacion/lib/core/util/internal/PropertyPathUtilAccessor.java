@@ -0,0 +1,287 @@
+/*
+ * Copyright © 2012 ecuacion.jp (info@ecuacion.jp)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.ecuacion.lib.core.util.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import jp.ecuacion.lib.core.jakartavalidation.constraints.PropertyPathAccessorTable;
+import jp.ecuacion.lib.core.util.PropertyPathUtil;
+import jp.ecuacion.lib.core.util.PropertyPathUtil.ElementOfCollectionCannotBeObtainedException;
+import jp.ecuacion.lib.core.util.ReflectionUtil;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Obtains values by navigating a propertyPath
+ *     for {@link PropertyPathUtil#getValue(Object, String)}.
+ *
+ * <p>A propertyPath is compiled into a chain of field getters built from {@link MethodHandle}s.
+ *     Getters are cached per (class, field name) and chains are cached per (class, propertyPath)
+ *     in {@link ClassValue}s, so repeated evaluation needs neither the field search
+ *     up the class hierarchy nor {@code Field#setAccessible(boolean)}.</p>
+ *
+ * <p>Each step keeps the last resolved (class, getter) pair
+ *     so the class of intermediate values is checked only by reference comparison
+ *     as long as it does not change.</p>
+ *
+ * <p>When a {@link PropertyPathAccessorTable} generated at compile time exists for the class
+ *     and it contains the propertyPath, its accessor is used instead of the chain.</p>
+ */
+public final class PropertyPathUtilAccessor {
+
+  /**
+   * The maximum number of cached chains per class.
+   *
+   * <p>PropertyPaths with indices (like {@code orders[3].qty}) vary by data,
+   *     so the cache is cleared when it reaches this size to keep the memory usage flat.</p>
+   */
+  static final int MAX_CACHE_SIZE_PER_CLASS = 1024;
+
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  private static final ClassValue<Map<@NonNull String, @NonNull MethodHandle>> getters =
+      new ClassValue<>() {
+        @Override
+        protected Map<@NonNull String, @NonNull MethodHandle> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  private static final ClassValue<Map<@NonNull String, @NonNull PropertyPathUtilAccessor>>
+      accessors = new ClassValue<>() {
+        @Override
+        protected Map<@NonNull String, @NonNull PropertyPathUtilAccessor> computeValue(
+            Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  private static final ClassValue<
+      Map<@NonNull String, @NonNull Function<Object, @Nullable Object>>> generatedAccessors =
+          new ClassValue<>() {
+            @Override
+            protected Map<@NonNull String, @NonNull Function<Object, @Nullable Object>>
+                computeValue(Class<?> type) {
+              return loadGeneratedAccessors(type);
+            }
+          };
+
+  private final Step[] steps;
+  private final @Nullable Function<Object, @Nullable Object> generatedAccessor;
+
+  private PropertyPathUtilAccessor(String propertyPath,
+      @Nullable Function<Object, @Nullable Object> generatedAccessor) {
+    this.generatedAccessor = generatedAccessor;
+
+    if (generatedAccessor != null) {
+      steps = new Step[] {};
+      return;
+    }
+
+    String[] segments = propertyPath.split("\\.", -1);
+    steps = new Step[segments.length];
+    for (int i = 0; i < segments.length; i++) {
+      steps[i] = new Step(segments[i]);
+    }
+  }
+
+  /*
+   * Returns the accessors of the generated PropertyPathAccessorTable for the class,
+   * or an empty map when it does not exist or cannot be instantiated.
+   */
+  private static Map<@NonNull String, @NonNull Function<Object, @Nullable Object>>
+      loadGeneratedAccessors(Class<?> cls) {
+    String packageName = cls.getPackageName();
+    String className = packageName.isEmpty() ? cls.getName()
+        : cls.getName().substring(packageName.length() + 1);
+    String tableClassName = (packageName.isEmpty() ? "" : packageName + ".")
+        + className + PropertyPathAccessorTable.CLASS_NAME_SUFFIX;
+
+    try {
+      Class<?> tableClass = Class.forName(tableClassName, true, cls.getClassLoader());
+      if (!PropertyPathAccessorTable.class.isAssignableFrom(tableClass)) {
+        return Map.of();
+      }
+
+      PropertyPathAccessorTable table =
+          (PropertyPathAccessorTable) tableClass.getConstructor().newInstance();
+
+      // The table of another class with the same name is not used.
+      return table.getTargetClass() == cls ? table.getAccessors() : Map.of();
+
+    } catch (ReflectiveOperationException | LinkageError | SecurityException ex) {
+      return Map.of();
+    }
+  }
+
+  /**
+   * Returns the compiled accessor of {@code propertyPath} starting from {@code cls}.
+   *
+   * @param cls class of the root object
+   * @param propertyPath propertyPath from the root object to the target field
+   * @return PropertyPathUtilAccessor
+   */
+  public static PropertyPathUtilAccessor of(Class<?> cls, String propertyPath) {
+    Map<@NonNull String, @NonNull PropertyPathUtilAccessor> map = accessors.get(cls);
+    PropertyPathUtilAccessor accessor = map.get(propertyPath);
+    if (accessor != null) {
+      return accessor;
+    }
+
+    if (map.size() >= MAX_CACHE_SIZE_PER_CLASS) {
+      map.clear();
+    }
+
+    accessor = new PropertyPathUtilAccessor(propertyPath,
+        generatedAccessors.get(cls).get(propertyPath));
+    PropertyPathUtilAccessor existing = map.putIfAbsent(propertyPath, accessor);
+    return existing == null ? accessor : existing;
+  }
+
+  /**
+   * Returns a field value by navigating {@code propertyPath} from {@code object}.
+   *
+   * <p>See {@link PropertyPathUtil#getValue(Object, String)}.</p>
+   *
+   * @param object root object
+   * @param propertyPath path from root object to the target field
+   * @return field value, or {@code null} if the field holds {@code null}
+   */
+  public static @Nullable Object getValue(Object object, String propertyPath) {
+    return of(object.getClass(), propertyPath).getValue(object);
+  }
+
+  /**
+   * Returns a field value by navigating the compiled propertyPath from {@code object}.
+   *
+   * @param object root object
+   * @return field value, or {@code null} if the field holds {@code null}
+   */
+  public @Nullable Object getValue(Object object) {
+    Function<Object, @Nullable Object> generated = generatedAccessor;
+    if (generated != null) {
+      return generated.apply(object);
+    }
+
+    Object value = steps[0].get(object);
+    for (int i = 1; i < steps.length; i++) {
+      value = steps[i].get(Objects.requireNonNull(value));
+    }
+
+    return value;
+  }
+
+  private static MethodHandle getter(Class<?> cls, String fieldName) {
+    return getters.get(cls).computeIfAbsent(fieldName, name -> createGetter(cls, name));
+  }
+
+  private static MethodHandle createGetter(Class<?> cls, String fieldName) {
+    Field field = ReflectionUtil.getDeclaredField(cls, fieldName);
+    field.setAccessible(true);
+
+    try {
+      MethodHandle mh = MethodHandles.lookup().unreflectGetter(field);
+      if (Modifier.isStatic(field.getModifiers())) {
+        mh = MethodHandles.dropArguments(mh, 0, Object.class);
+      }
+
+      return mh.asType(GETTER_TYPE);
+
+    } catch (IllegalAccessException ex) {
+      throw new RuntimeException(
+          "Field value cannot be obtained from the field '" + field.getName() + "'", ex);
+    }
+  }
+
+  private static final class Step {
+    private final String fieldName;
+    private final @Nullable String index;
+    private volatile @Nullable ResolvedGetter resolved;
+
+    private Step(String segment) {
+      if (segment.contains("[")) {
+        String name = segment.contains("<K>") ? segment.substring(0, segment.indexOf("<K>"))
+            : segment;
+        fieldName = name.contains("[") ? name.substring(0, name.indexOf("[")) : name;
+        // It's string because it can be non-number value when the validated object is Map.
+        index = segment.substring(segment.indexOf("[") + 1, segment.indexOf("]"));
+
+      } else {
+        fieldName = segment;
+        index = null;
+      }
+    }
+
+    private @Nullable Object get(Object object) {
+      Object value = invoke(object);
+      String idx = index;
+      if (idx == null) {
+        return value;
+      }
+
+      // Resolve the field for array or List.
+      // Occur an exception for any other collections
+      // because it's impossible to specify the element in Set
+      // (since the propertyPath is like "childSet[]")
+      // and Map (since the propertyPath is like "childMap[test]"
+      // where test is the key of them map entry. Any type can be key and
+      // it's impossible to resolve it).
+      if (value instanceof Object[] arr) {
+        return arr[Integer.parseInt(idx)];
+
+      } else if (value instanceof List<?> list) {
+        return list.get(Integer.parseInt(idx));
+
+      } else {
+        throw new ElementOfCollectionCannotBeObtainedException(
+            "Multiple value types other than array and List "
+                + "are not supported. The type of value: "
+                + Objects.requireNonNull(value).getClass().getCanonicalName());
+      }
+    }
+
+    private @Nullable Object invoke(Object object) {
+      Class<?> cls = object.getClass();
+      ResolvedGetter r = resolved;
+      if (r == null || r.cls() != cls) {
+        r = new ResolvedGetter(cls, getter(cls, fieldName));
+        resolved = r;
+      }
+
+      try {
+        return (Object) r.getter().invokeExact(object);
+
+      } catch (RuntimeException | Error ex) {
+        throw ex;
+
+      } catch (Throwable th) {
+        throw new RuntimeException(
+            "Field value cannot be obtained from the field '" + fieldName + "'", th);
+      }
+    }
+  }
+
+  private static record ResolvedGetter(Class<?> cls, MethodHandle getter) {
+  }
+}
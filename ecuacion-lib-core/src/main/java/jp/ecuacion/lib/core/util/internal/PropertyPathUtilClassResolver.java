@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2012 ecuacion.jp (info@ecuacion.jp)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.ecuacion.lib.core.util.internal;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import jp.ecuacion.lib.core.util.PropertyPathUtil;
+import jp.ecuacion.lib.core.util.ReflectionUtil;
+import jp.ecuacion.lib.core.util.internal.PropertyPathUtilParsedPath.Node;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Resolves the class at the end of a propertyPath
+ *     for {@link PropertyPathUtil#getClass(Class, String)}.
+ *
+ * <p>The result depends only on the root class and the index-less form of the propertyPath
+ *     (see {@link PropertyPathUtil#toIndexlessPath(String)}),
+ *     so it is cached per (root class, index-less path) in a {@link ClassValue}.
+ *     Generic types are resolved from the declared types of fields
+ *     without loading classes by name.</p>
+ */
+public final class PropertyPathUtilClassResolver {
+
+  private static final ClassValue<Map<@NonNull String, @NonNull Class<?>>> cache =
+      new ClassValue<>() {
+        @Override
+        protected Map<@NonNull String, @NonNull Class<?>> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  private PropertyPathUtilClassResolver() {}
+
+  /**
+   * Returns the Java class at the end of the given {@code propertyPath} starting from
+   * {@code rootBeanClass}.
+   *
+   * <p>See {@link PropertyPathUtil#getClass(Class, String)}.</p>
+   *
+   * @param rootBeanClass starting class
+   * @param propertyPath propertyPath relative to {@code rootBeanClass}
+   * @return resolved class
+   */
+  public static Class<?> getClass(Class<?> rootBeanClass, String propertyPath) {
+    String indexlessPath = PropertyPathUtilParsedPath.of(propertyPath).getIndexlessPath();
+    return cache.get(rootBeanClass).computeIfAbsent(indexlessPath,
+        path -> resolve(rootBeanClass, path));
+  }
+
+  private static Class<?> resolve(Class<?> rootBeanClass, String indexlessPath) {
+    Class<?> tmpClass = rootBeanClass;
+    for (Node node : PropertyPathUtilParsedPath.of(indexlessPath).getNodeList()) {
+      try {
+        Field tmpField = ReflectionUtil.getDeclaredField(tmpClass, node.fieldName());
+        tmpClass = tmpField.getType();
+
+        if (!node.hasIndex()) {
+          continue;
+        }
+
+        Type type = tmpField.getGenericType();
+        for (int i = 0; i < node.indexes().size(); i++) {
+          type = getElementType(type, node.hasMapKeyMarker());
+        }
+
+        tmpClass = toClass(type);
+
+      } catch (Exception ex) {
+        throw new RuntimeException(ex);
+      }
+    }
+
+    return tmpClass;
+  }
+
+  /*
+   * Returns the type of elements: the component type for arrays,
+   * the 2nd type argument for Map values and the 1st type argument for others.
+   */
+  private static Type getElementType(Type type, boolean isMapKeyAccess) {
+    if (type instanceof Class<?> cls && cls.isArray()) {
+      return cls.getComponentType();
+
+    } else if (type instanceof GenericArrayType gat) {
+      return gat.getGenericComponentType();
+
+    } else if (type instanceof WildcardType wt) {
+      return getElementType(wt.getUpperBounds()[0], isMapKeyAccess);
+
+    } else if (type instanceof TypeVariable<?> tv) {
+      return getElementType(tv.getBounds()[0], isMapKeyAccess);
+
+    } else if (type instanceof ParameterizedType pt) {
+      Type[] typeArgs = pt.getActualTypeArguments();
+      boolean isMapValueAccess =
+          !isMapKeyAccess && Map.class.isAssignableFrom(toClass(pt.getRawType()));
+      return typeArgs[isMapValueAccess ? 1 : 0];
+
+    } else {
+      throw new RuntimeException(
+          "The element type cannot be resolved from the type: " + type.getTypeName());
+    }
+  }
+
+  private static Class<?> toClass(Type type) {
+    if (type instanceof Class<?> cls) {
+      return cls;
+
+    } else if (type instanceof ParameterizedType pt) {
+      return toClass(pt.getRawType());
+
+    } else if (type instanceof GenericArrayType gat) {
+      return toClass(gat.getGenericComponentType()).arrayType();
+
+    } else if (type instanceof WildcardType wt) {
+      return toClass(wt.getUpperBounds()[0]);
+
+    } else if (type instanceof TypeVariable<?> tv) {
+      return toClass(tv.getBounds()[0]);
+
+    } else {
+      throw new RuntimeException("The class cannot be resolved from the type: "
+          + type.getTypeName());
+    }
+  }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright © 2012 ecuacion.jp (info@ecuacion.jp)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.ecuacion.lib.core.util.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import jp.ecuacion.lib.core.util.PropertyPathUtil;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Holds a propertyPath parsed into nodes for {@link PropertyPathUtil}.
+ *
+ * <p>Instances are immutable and obtained via {@link #of(String)},
+ *     which interns them in a bounded cache.
+ *     Since the same propertyPaths (like {@code orders[3].lines[0].<list element>})
+ *     are analyzed many times while one violation is converted to a message,
+ *     parsing them once and sharing the result avoids repeated string splitting.</p>
+ *
+ * <p>About {@code node}, see {@link PropertyPathUtil#getRightMostNode(String)}.</p>
+ */
+public final class PropertyPathUtilParsedPath {
+
+  /**
+   * The maximum number of cached instances.
+   *
+   * <p>PropertyPaths with indices (like {@code orders[3].qty}) vary by data,
+   *     so the cache is cleared when it reaches this size to keep the memory usage flat.</p>
+   */
+  static final int MAX_CACHE_SIZE = 4096;
+
+  private static final Map<@NonNull String, @NonNull PropertyPathUtilParsedPath> cache =
+      new ConcurrentHashMap<>();
+
+  private static final List<@NonNull String> ELEMENT_KEYWORDS = Arrays.stream(ElementKind.values())
+      .map(kind -> "." + kind.getMarker()).toList();
+
+  private final String propertyPath;
+  private final List<@NonNull Node> nodeList;
+  private final List<@NonNull String> nodeStringList;
+  private final String rightMostNode;
+  private final String propertyPathWithoutRightMostNode;
+  private final String fieldPath;
+  private final String indexlessPath;
+
+  /**
+   * Expresses the kind of a collection element marker (like {@code <list element>}).
+   */
+  public static enum ElementKind {
+    /** {@code <list element>}. */
+    LIST(PropertyPathUtil.EL_LIST),
+    /** {@code <iterable element>}. */
+    ITERABLE(PropertyPathUtil.EL_SET),
+    /** {@code <map key>}. */
+    MAP_KEY(PropertyPathUtil.EL_MAP_KEY),
+    /** {@code <map value>}. */
+    MAP_VALUE(PropertyPathUtil.EL_MAP_VAL);
+
+    private final String marker;
+
+    private ElementKind(String marker) {
+      this.marker = marker;
+    }
+
+    /**
+     * Returns the marker string like {@code <list element>}.
+     */
+    public String getMarker() {
+      return marker;
+    }
+
+    private static @Nullable ElementKind fromSegment(String segment) {
+      for (ElementKind kind : values()) {
+        if (segment.startsWith(kind.marker)) {
+          return kind;
+        }
+      }
+
+      return null;
+    }
+  }
+
+  /**
+   * Stores a node of a propertyPath.
+   *
+   * @param text node string (like {@code strList[0].<list element>})
+   * @param fieldName field name without collection parts (like {@code strList})
+   * @param hasMapKeyMarker {@code true} when the node contains {@code <K>},
+   *     which means the node accesses keys of a map
+   * @param indexes strings enclosed in {@code [} and {@code ]} in appearance order.
+   *     An element is an empty string for unordered collections (like {@code intSet[]})
+   * @param elementKinds collection element markers in appearance order
+   */
+  public static record Node(String text, String fieldName, boolean hasMapKeyMarker,
+      List<@NonNull String> indexes, List<@NonNull ElementKind> elementKinds) {
+
+    private static Node parse(String text) {
+      String fieldName = text.contains("<K>") ? text.substring(0, text.indexOf("<K>")) : text;
+      fieldName = fieldName.contains("[") ? fieldName.substring(0, fieldName.indexOf("["))
+          : fieldName;
+
+      List<@NonNull String> indexes = new ArrayList<>();
+      int from = 0;
+      while (true) {
+        int start = text.indexOf('[', from);
+        int end = start < 0 ? -1 : text.indexOf(']', start);
+        if (end < 0) {
+          break;
+        }
+
+        indexes.add(text.substring(start + 1, end));
+        from = end + 1;
+      }
+
+      List<@NonNull ElementKind> elementKinds = new ArrayList<>();
+      for (String segment : splitByDot(text)) {
+        ElementKind kind = ElementKind.fromSegment(segment);
+        if (kind != null) {
+          elementKinds.add(kind);
+        }
+      }
+
+      return new Node(text, fieldName, text.contains("<K>"), List.copyOf(indexes),
+          List.copyOf(elementKinds));
+    }
+
+    /**
+     * Returns {@code true} when the node has a collection part.
+     */
+    public boolean hasIndex() {
+      return !indexes.isEmpty();
+    }
+  }
+
+  /*
+   * Splits by "." keeping empty segments, like String#split("\\.", -1) without regex.
+   */
+  private static List<@NonNull String> splitByDot(String str) {
+    List<@NonNull String> list = new ArrayList<>();
+    int from = 0;
+    for (int index = str.indexOf('.'); index >= 0; index = str.indexOf('.', from)) {
+      list.add(str.substring(from, index));
+      from = index + 1;
+    }
+
+    list.add(str.substring(from));
+    return list;
+  }
+
+  private PropertyPathUtilParsedPath(String propertyPath) {
+    this.propertyPath = propertyPath;
+
+    // Split by "." and join the segments starting with collection element markers
+    // to the preceding segment since they are parts of the same node.
+    List<@NonNull String> texts = new ArrayList<>();
+    if (!propertyPath.isEmpty()) {
+      for (String segment : splitByDot(propertyPath)) {
+        boolean isElementSegment = Arrays.stream(PropertyPathUtil.COLLECTION_ELS)
+            .anyMatch(segment::contains);
+        if (isElementSegment && !texts.isEmpty()) {
+          texts.set(texts.size() - 1, texts.get(texts.size() - 1) + "." + segment);
+
+        } else {
+          texts.add(segment);
+        }
+      }
+    }
+
+    this.nodeStringList = Collections.unmodifiableList(texts);
+    this.nodeList = texts.stream().map(Node::parse).toList();
+    this.rightMostNode = texts.isEmpty() ? "" : texts.get(texts.size() - 1);
+    this.propertyPathWithoutRightMostNode =
+        texts.size() <= 1 ? "" : String.join(".", texts.subList(0, texts.size() - 1));
+    this.fieldPath =
+        String.join(".", nodeList.stream().map(Node::fieldName).toList());
+    this.indexlessPath = createIndexlessPath(propertyPath);
+  }
+
+  /**
+   * Returns the parsed instance of {@code propertyPath}.
+   *
+   * @param propertyPath propertyPath
+   * @return PropertyPathUtilParsedPath
+   */
+  public static PropertyPathUtilParsedPath of(String propertyPath) {
+    PropertyPathUtilParsedPath parsed = cache.get(propertyPath);
+    if (parsed != null) {
+      return parsed;
+    }
+
+    if (cache.size() >= MAX_CACHE_SIZE) {
+      cache.clear();
+    }
+
+    parsed = new PropertyPathUtilParsedPath(propertyPath);
+    PropertyPathUtilParsedPath existing = cache.putIfAbsent(propertyPath, parsed);
+    return existing == null ? parsed : existing;
+  }
+
+  private static String createIndexlessPath(String propertyPath) {
+    StringBuilder sb = new StringBuilder();
+    String tmpPropertyPath = propertyPath;
+
+    // Remove characters between "[" and "]".
+    while (true) {
+      if (tmpPropertyPath.isEmpty()) {
+        break;
+
+      } else if (!tmpPropertyPath.contains("]")) {
+        sb.append(tmpPropertyPath);
+        break;
+      }
+
+      sb.append(tmpPropertyPath.substring(0, tmpPropertyPath.indexOf("[")) + "[]");
+      tmpPropertyPath = tmpPropertyPath.substring(tmpPropertyPath.indexOf("]") + 1);
+    }
+
+    // Remove element keywords.
+    tmpPropertyPath = sb.toString();
+    for (String keyword : ELEMENT_KEYWORDS) {
+      tmpPropertyPath = tmpPropertyPath.replace(keyword, "");
+    }
+
+    return tmpPropertyPath;
+  }
+
+  /**
+   * Returns the original propertyPath.
+   */
+  public String getPropertyPath() {
+    return propertyPath;
+  }
+
+  /**
+   * Returns the list of nodes.
+   */
+  public List<@NonNull Node> getNodeList() {
+    return nodeList;
+  }
+
+  /**
+   * Returns the list of node strings.
+   *
+   * <p>See {@link PropertyPathUtil#getNodeList(String)}.</p>
+   */
+  public List<@NonNull String> getNodeStringList() {
+    return nodeStringList;
+  }
+
+  /**
+   * Returns the right most node.
+   *
+   * <p>See {@link PropertyPathUtil#getRightMostNode(String)}.</p>
+   */
+  public String getRightMostNode() {
+    return rightMostNode;
+  }
+
+  /**
+   * Returns the propertyPath without the right most node.
+   *
+   * <p>See {@link PropertyPathUtil#getPropertyPathWithoutRightMostNode(String)}.</p>
+   */
+  public String getPropertyPathWithoutRightMostNode() {
+    return propertyPathWithoutRightMostNode;
+  }
+
+  /**
+   * Returns the field path.
+   *
+   * <p>See {@link PropertyPathUtil#toFieldPath(String)}.</p>
+   */
+  public String getFieldPath() {
+    return fieldPath;
+  }
+
+  /**
+   * Returns the index-less path.
+   *
+   * <p>See {@link PropertyPathUtil#toIndexlessPath(String)}.</p>
+   */
+  public String getIndexlessPath() {
+    return indexlessPath;
+  }
+
+  @Override
+  public String toString() {
+    return propertyPath;
+  }
+}
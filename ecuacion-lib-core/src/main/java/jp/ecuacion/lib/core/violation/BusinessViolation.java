@@ -15,6 +15,7 @@
  */
 package jp.ecuacion.lib.core.violation;
 
+import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Locale;
 import jp.ecuacion.lib.core.util.ObjectsUtil;
@@ -28,8 +29,12 @@ import org.jspecify.annotations.Nullable;
  *
  * <p>Use this when you want to collect violations without immediately throwing,
  *     then call {@link Violations#throwIfAny()} after all checks are done.</p>
+ *
+ * <p>It's serializable when all the message arguments are serializable.</p>
  */
-public class BusinessViolation {
+public class BusinessViolation implements Serializable {
+
+  private static final long serialVersionUID = 1L;
 
   /**
    * message ID.
@@ -0,0 +1,277 @@
+/*
+ * Copyright © 2012 ecuacion.jp (info@ecuacion.jp)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.ecuacion.lib.core.violation;
+
+import jakarta.validation.ConstraintViolation;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import jp.ecuacion.lib.core.item.Item;
+import jp.ecuacion.lib.core.jakartavalidation.constraints.ValidatorMessageParameterCreator;
+import jp.ecuacion.lib.core.jakartavalidation.internal.ConstraintViolationBean;
+import jp.ecuacion.lib.core.util.ExceptionUtil;
+import jp.ecuacion.lib.core.util.PropertiesFileUtil.Arg;
+import jp.ecuacion.lib.core.util.internal.ExceptionUtilMessageParameterCreators;
+import jp.ecuacion.lib.core.violation.Violations.MessageParameters;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Is a form of {@link Violations} detached from the validated beans.
+ *
+ * <p>{@link ConstraintViolation}s hold the validated beans,
+ *     which makes {@link Violations} large and not transportable to other nodes.
+ *     This class keeps only what is needed to render messages:
+ *     message templates, message parameters, item name keys and property paths
+ *     with indexes for {@link ConstraintViolation}s, and {@link BusinessViolation}s as they are.
+ *     Nothing in it depends on locales,
+ *     so messages are rendered later in any locale
+ *     by {@link ExceptionUtil#getMessageList(DetachedViolations, java.util.Locale, boolean)}.</p>
+ *
+ * <p>It implements {@link Serializable}, and its components consist of strings, numbers,
+ *     booleans, lists and maps except {@link Arg}s and {@link BusinessViolation}s,
+ *     so it can also be converted to JSON by JSON libraries supporting records.
+ *     Message parameters of {@link BusinessViolation}s and {@link Arg}s
+ *     need to be serializable to serialize this.</p>
+ *
+ * <p>Differences from rendering {@link Violations}:</p>
+ * <ul>
+ *   <li>Message parameters of classes other than strings, numbers, booleans
+ *       and characters are converted to strings by {@code toString()},
+ *       and arrays are converted to lists.</li>
+ *   <li>{@code invalidValue} of class-level constraints, which is the validated bean,
+ *       is not kept.</li>
+ *   <li>Item name paths ({@link MessageParameters#showsItemNamePath()}) are not shown
+ *       since they are obtained from the validated beans.</li>
+ *   <li>When the message template is not found in the properties files of ecuacion-lib
+ *       and apps, it's interpolated by the message interpolator of Jakarta Validation
+ *       with the message parameters as constraint attributes.</li>
+ * </ul>
+ */
+public final class DetachedViolations implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final String ITEM_ATTRIBUTES = "itemAttributes";
+
+  private static final String INVALID_VALUE = "invalidValue";
+
+  private final List<@NonNull DetachedConstraintViolation> constraintViolations;
+  private final List<@NonNull BusinessViolation> businessViolations;
+  private final MessageParameters messageParameters;
+
+  /**
+   * Constructs a new instance.
+   *
+   * @param constraintViolations detached constraint violations
+   * @param businessViolations business violations
+   * @param messageParameters message parameters
+   */
+  public DetachedViolations(List<@NonNull DetachedConstraintViolation> constraintViolations,
+      List<@NonNull BusinessViolation> businessViolations, MessageParameters messageParameters) {
+    this.constraintViolations = List.copyOf(constraintViolations);
+    this.businessViolations = List.copyOf(businessViolations);
+    this.messageParameters = messageParameters;
+  }
+
+  /**
+   * Creates a new instance from {@code violations}.
+   *
+   * <p>Item name keys are resolved here since they depend on the validated beans.</p>
+   *
+   * @param violations violations
+   * @return DetachedViolations
+   */
+  public static DetachedViolations of(Violations violations) {
+    List<@NonNull DetachedConstraintViolation> list = new ArrayList<>();
+    violations.forEachConstraintViolation(cv -> list.add(detach(cv, violations)));
+
+    return new DetachedViolations(list, violations.getBusinessViolationsView(),
+        violations.messageParameters());
+  }
+
+  private static DetachedConstraintViolation detach(ConstraintViolation<?> cv,
+      Violations violations) {
+    ConstraintViolationBean<?> bean = ConstraintViolationBean.createConstraintViolationBean(cv);
+    List<Item> itemList = bean.getItemList();
+
+    Map<@NonNull String, @Nullable Object> params = new HashMap<>();
+    Map<@NonNull String, @Nullable Object> map = new HashMap<>(bean.getEmbeddedParamMap());
+    map.putAll(ExceptionUtilMessageParameterCreators.getExternalMessageParams(cv, bean));
+
+    // The invalid value of class-level constraints is the bean itself.
+    if (ConstraintViolationBean.isClassLevel(cv)) {
+      map.remove(INVALID_VALUE);
+    }
+
+    for (Map.Entry<@NonNull String, @Nullable Object> entry : map.entrySet()) {
+      if (!entry.getKey().equals(ITEM_ATTRIBUTES)) {
+        params.put(entry.getKey(), toDetachedValue(entry.getValue()));
+      }
+    }
+
+    return new DetachedConstraintViolation(bean.getMessageTemplate(),
+        itemList.stream().map(Item::getDisplayPropertyPath).toList(),
+        itemList.stream().map(Item::getItemNameKey).toList(),
+        itemList.get(0).getShowsValue(), params, bean.getResolvedMessage(),
+        violations.getElementIndex(cv));
+  }
+
+  /*
+   * Converts a message parameter to a locale-independent and serializable value.
+   */
+  private static @Nullable Object toDetachedValue(@Nullable Object value) {
+    if (value == null || value instanceof String || value instanceof Number
+        || value instanceof Boolean || value instanceof Character || value instanceof Arg) {
+      return value;
+
+    } else if (value instanceof ValidatorMessageParameterCreator.ItemNameParam inp) {
+      return new ItemNameKeysParam(inp.items().stream().map(Item::getDisplayPropertyPath).toList(),
+          inp.items().stream().map(Item::getItemNameKey).toList());
+
+    } else if (value.getClass().isArray()) {
+      List<@Nullable Object> list = new ArrayList<>();
+      for (int i = 0; i < Array.getLength(value); i++) {
+        list.add(toDetachedValue(Array.get(value, i)));
+      }
+
+      return Collections.unmodifiableList(list);
+
+    } else {
+      return value.toString();
+    }
+  }
+
+  /**
+   * Returns detached constraint violations.
+   *
+   * @return unmodifiable list of detached constraint violations
+   */
+  public List<@NonNull DetachedConstraintViolation> getConstraintViolations() {
+    return constraintViolations;
+  }
+
+  /**
+   * Returns business violations.
+   *
+   * @return unmodifiable list of business violations
+   */
+  public List<@NonNull BusinessViolation> getBusinessViolations() {
+    return businessViolations;
+  }
+
+  /**
+   * Returns message parameters.
+   *
+   * @return message parameters
+   */
+  public MessageParameters getMessageParameters() {
+    return messageParameters;
+  }
+
+  /**
+   * Returns the total number of violations.
+   *
+   * @return the number of constraint violations and business violations
+   */
+  public int size() {
+    return constraintViolations.size() + businessViolations.size();
+  }
+
+  /**
+   * Is a {@link ConstraintViolation} detached from the validated bean.
+   *
+   * @param messageTemplate message template
+   *     like {@code {jakarta.validation.constraints.Min.message}}
+   * @param propertyPaths property paths of the items with indexes like {@code rows[3].qty}
+   * @param itemNameKeys item name keys of the items
+   * @param showsValue {@code false} when the invalid value is hidden
+   * @param params message parameters
+   * @param interpolatedMessage the message interpolated at validation,
+   *     used when rendering fails because of missing resources
+   * @param elementIndex the index set by {@link Violations#validateAll}, may be {@code null}
+   */
+  public static record DetachedConstraintViolation(String messageTemplate,
+      List<@NonNull String> propertyPaths, List<@NonNull String> itemNameKeys,
+      boolean showsValue, Map<@NonNull String, @Nullable Object> params,
+      String interpolatedMessage, @Nullable Integer elementIndex) implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new instance.
+     */
+    public DetachedConstraintViolation {
+      propertyPaths = List.copyOf(propertyPaths);
+      itemNameKeys = List.copyOf(itemNameKeys);
+      params = Collections.unmodifiableMap(new HashMap<>(params));
+    }
+
+    /**
+     * Returns items created from property paths and item name keys.
+     *
+     * @return list of items
+     */
+    public List<@NonNull Item> toItemList() {
+      return ItemNameKeysParam.toItemList(propertyPaths, itemNameKeys, showsValue);
+    }
+  }
+
+  /**
+   * Is a detached {@link ValidatorMessageParameterCreator.ItemNameParam},
+   *     which is replaced with item names at rendering.
+   *
+   * @param propertyPaths property paths of the items
+   * @param itemNameKeys item name keys of the items
+   */
+  public static record ItemNameKeysParam(List<@NonNull String> propertyPaths,
+      List<@NonNull String> itemNameKeys) implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new instance.
+     */
+    public ItemNameKeysParam {
+      propertyPaths = List.copyOf(propertyPaths);
+      itemNameKeys = List.copyOf(itemNameKeys);
+    }
+
+    /**
+     * Returns items created from property paths and item name keys.
+     *
+     * @return list of items
+     */
+    public List<@NonNull Item> toItemList() {
+      return toItemList(propertyPaths, itemNameKeys, true);
+    }
+
+    private static List<@NonNull Item> toItemList(List<@NonNull String> propertyPaths,
+        List<@NonNull String> itemNameKeys, boolean showsValue) {
+      List<@NonNull Item> list = new ArrayList<>();
+      for (int i = 0; i < propertyPaths.size(); i++) {
+        list.add(new Item(propertyPaths.get(i)).itemNameKey(itemNameKeys.get(i))
+            .showsValue(showsValue));
+      }
+
+      return list;
+    }
+  }
+}
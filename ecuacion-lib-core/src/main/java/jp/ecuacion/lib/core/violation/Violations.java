@@ -17,14 +17,33 @@ package jp.ecuacion.lib.core.violation;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
+import jakarta.validation.ValidationException;
 import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 import jp.ecuacion.lib.core.exception.ViolationException;
 import jp.ecuacion.lib.core.exception.ViolationWarningException;
+import jp.ecuacion.lib.core.jakartavalidation.constraints.ValidationRunMemo;
 import jp.ecuacion.lib.core.util.PropertiesFileUtil.Arg;
+import org.hibernate.validator.HibernateValidatorFactory;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
@@ -42,11 +61,39 @@ import org.jspecify.annotations.Nullable;
  */
 public class Violations {
 
-  private static final Validator validator =
-      Validation.buildDefaultValidatorFactory().getValidator();
+  /**
+   * Is the {@link ValidatorFactory} shared by {@link #validate(Object)}
+   *     and message interpolation in {@code ExceptionUtil}, with the validators built from it.
+   *
+   * <p>It's built by {@link Validation#buildDefaultValidatorFactory()} at first access
+   *     unless {@link #setValidatorFactory(ValidatorFactory)} is called.</p>
+   */
+  private static volatile @Nullable Validators validators;
 
-  private List<@NonNull ConstraintViolation<?>> constraintViolations = new ArrayList<>();
-  private List<@NonNull BusinessViolation> businessViolations = new ArrayList<>();
+  /** Is the number of beans validated in one task in {@link #validateAll}. */
+  private static final int PARALLEL_VALIDATION_CHUNK_SIZE = 256;
+
+  /**
+   * Orders violations of one bean since {@code Validator#validate} returns a {@code Set}.
+   *
+   * <p>The constraint attributes are compared at last
+   *     to order repeated constraints (like class-level constraints
+   *     with different propertyPaths).</p>
+   */
+  private static final Comparator<ViolationSortKey> VIOLATION_ORDER =
+      Comparator.comparing(ViolationSortKey::propertyPath)
+          .thenComparing(ViolationSortKey::messageTemplate)
+          .thenComparing(ViolationSortKey::annotationType)
+          .thenComparing(ViolationSortKey::attributes);
+
+  private final List<@NonNull ConstraintViolation<?>> constraintViolations = new ArrayList<>();
+  private final List<@NonNull BusinessViolation> businessViolations = new ArrayList<>();
+  private final List<@NonNull ConstraintViolation<?>> constraintViolationsView =
+      Collections.unmodifiableList(constraintViolations);
+  private final List<@NonNull BusinessViolation> businessViolationsView =
+      Collections.unmodifiableList(businessViolations);
+  private final IdentityHashMap<ConstraintViolation<?>, Integer> elementIndexMap =
+      new IdentityHashMap<>();
   private MessageParameters messageParameters = new MessageParameters();
 
   /**
@@ -133,6 +180,41 @@ public class Violations {
     return this;
   }
 
+  /**
+   * Sets the {@link ValidatorFactory} used by {@code validate} methods
+   *     and by message interpolation in {@code ExceptionUtil}.
+   *
+   * <p>Use it to plug in a factory configured with
+   *     a custom {@code ConstraintValidatorFactory}, {@code TraversableResolver} and so on.
+   *     The factory is not closed by this library.</p>
+   *
+   * @param validatorFactory validator factory
+   */
+  public static void setValidatorFactory(ValidatorFactory validatorFactory) {
+    validators = new Validators(Objects.requireNonNull(validatorFactory));
+  }
+
+  /**
+   * Returns the {@link ValidatorFactory} used by {@code validate} methods
+   *     and by message interpolation in {@code ExceptionUtil}.
+   *
+   * @return validator factory
+   */
+  public static ValidatorFactory getValidatorFactory() {
+    return getValidators().factory;
+  }
+
+  private static Validators getValidators() {
+    if (validators == null) {
+      synchronized (Violations.class) {
+        if (validators == null) {
+          validators = new Validators(Validation.buildDefaultValidatorFactory());
+        }
+      }
+    }
+    return Objects.requireNonNull(validators);
+  }
+
   /**
    * Validates {@code object} using Jakarta Validation and adds any resulting
    * {@link ConstraintViolation}s to this instance.
@@ -142,7 +224,8 @@ public class Violations {
    * @return this instance for method chaining
    */
   public <T> Violations validate(T object) {
-    return addAll(validator.validate(object));
+    Validator validator = getValidators().validator;
+    return addAll(ValidationRunMemo.run(() -> validator.validate(object)));
   }
 
   /**
@@ -155,12 +238,196 @@ public class Violations {
    * @return this instance for method chaining
    */
   public <T> Violations validate(T object, Class<?>... groups) {
-    Set<ConstraintViolation<T>> set =
-        groups == null || groups.length == 0 ? validator.validate(object)
-            : validator.validate(object, groups);
+    return validate(object, false, groups);
+  }
+
+  /**
+   * Validates {@code object} using Jakarta Validation with the specified groups
+   * and adds any resulting {@link ConstraintViolation}s to this instance.
+   *
+   * <p>When {@code failFast} is {@code true}, the validation stops at the first violation,
+   *     which is useful when you only need to know whether {@code object} is valid.
+   *     Fail-fast mode is supported only with Hibernate Validator.
+   *     With other providers all the violations are added.</p>
+   *
+   * @param <T> any class
+   * @param object object to validate
+   * @param failFast {@code true} to stop at the first violation
+   * @param groups validation groups
+   * @return this instance for method chaining
+   */
+  public <T> Violations validate(T object, boolean failFast, Class<?>... groups) {
+    Validators v = getValidators();
+    Validator validator = failFast ? v.failFastValidator : v.validator;
+    Set<ConstraintViolation<T>> set = ValidationRunMemo
+        .run(() -> groups == null || groups.length == 0 ? validator.validate(object)
+            : validator.validate(object, groups));
     return addAll(set);
   }
 
+  /**
+   * Validates {@code beans} in parallel with {@link ForkJoinPool#commonPool()}
+   *     and adds any resulting {@link ConstraintViolation}s to this instance.
+   *
+   * <p>See {@link #validateAll(Collection, Executor, Class...)}.</p>
+   *
+   * @param beans beans to validate
+   * @param groups validation groups
+   * @return this instance for method chaining
+   */
+  public Violations validateAll(Collection<?> beans, Class<?>... groups) {
+    return validateAll(beans, ForkJoinPool.commonPool(), groups);
+  }
+
+  /**
+   * Validates {@code beans} in parallel with {@code executor}
+   *     and adds any resulting {@link ConstraintViolation}s to this instance.
+   *
+   * <p>It's meant for a large number of beans like the rows of CSV or Excel imports.
+   *     Beans are split into chunks and each chunk is validated by a task
+   *     submitted to {@code executor}.
+   *     Violations are added in the order of {@code beans}
+   *     and each violation is tagged with the index of its bean,
+   *     which is obtained by {@link #getElementIndex(ConstraintViolation)}.
+   *     Violations of one bean are ordered by the property path, the message template,
+   *     the constraint and its attributes so that the result is the same at every run.</p>
+   *
+   * <p>All tasks share the validator of {@link #getValidatorFactory()},
+   *     so {@code ConstraintValidator}s need to be thread-safe
+   *     as required by Jakarta Validation.
+   *     Validators of ecuacion-lib keep no per-call state in their fields.</p>
+   *
+   * @param beans beans to validate
+   * @param executor executor which runs validation tasks
+   * @param groups validation groups
+   * @return this instance for method chaining
+   */
+  public Violations validateAll(Collection<?> beans, Executor executor, Class<?>... groups) {
+    Objects.requireNonNull(executor);
+    List<?> beanList = new ArrayList<>(beans);
+    Validator validator = getValidators().validator;
+    Class<?>[] nonNullGroups = groups == null ? new Class<?>[] {} : groups;
+
+    // Each task writes to its own range, and join() makes the results visible.
+    @SuppressWarnings("unchecked")
+    List<ConstraintViolation<?>>[] results = new List[beanList.size()];
+    List<CompletableFuture<Void>> futureList = new ArrayList<>();
+    for (int start = 0; start < beanList.size(); start += PARALLEL_VALIDATION_CHUNK_SIZE) {
+      final int from = start;
+      final int to = Math.min(start + PARALLEL_VALIDATION_CHUNK_SIZE, beanList.size());
+      futureList.add(CompletableFuture.runAsync(() -> {
+        for (int i = from; i < to; i++) {
+          results[i] = sort(validateInRun(validator, beanList.get(i), nonNullGroups));
+        }
+      }, executor));
+    }
+
+    try {
+      CompletableFuture.allOf(futureList.toArray(CompletableFuture<?>[]::new)).join();
+
+    } catch (CompletionException ex) {
+      throw ex.getCause() instanceof RuntimeException re ? re : ex;
+    }
+
+    for (int i = 0; i < results.length; i++) {
+      for (ConstraintViolation<?> cv : results[i]) {
+        constraintViolations.add(cv);
+        elementIndexMap.put(cv, i);
+      }
+    }
+
+    return this;
+  }
+
+  /**
+   * Validates beans in {@code beans} one by one and passes the resulting
+   *     {@link ConstraintViolation}s to {@code sink}.
+   *
+   * <p>See {@link #validateStream(Iterator, ViolationSink, long, long, Class...)}.</p>
+   *
+   * @param beans beans to validate
+   * @param sink sink which receives violations
+   * @param maxViolations validation stops when the number of violations reaches it
+   * @param maxFailingBeans validation stops when the number of beans with violations reaches it
+   * @param groups validation groups
+   * @return result
+   */
+  public static StreamValidationResult validateStream(Stream<?> beans, ViolationSink sink,
+      long maxViolations, long maxFailingBeans, Class<?>... groups) {
+    return validateStream(beans.iterator(), sink, maxViolations, maxFailingBeans, groups);
+  }
+
+  /**
+   * Validates beans in {@code beans} one by one and passes the resulting
+   *     {@link ConstraintViolation}s to {@code sink}.
+   *
+   * <p>It's meant for imports too large to hold all the beans or violations in memory.
+   *     Neither beans nor violations are kept by this method,
+   *     so memory use does not depend on the number of beans.
+   *     Violations of one bean are ordered by the property path and the message template
+   *     and passed with the index of the bean in {@code beans}.</p>
+   *
+   * <p>Validation stops when the number of violations reaches {@code maxViolations}
+   *     (violations after it are not passed to {@code sink} even in the same bean)
+   *     or the number of beans with violations reaches {@code maxFailingBeans}.
+   *     Remaining beans are not read from {@code beans}.
+   *     Specify {@link Long#MAX_VALUE} for no limits.</p>
+   *
+   * @param beans beans to validate
+   * @param sink sink which receives violations
+   * @param maxViolations validation stops when the number of violations reaches it
+   * @param maxFailingBeans validation stops when the number of beans with violations reaches it
+   * @param groups validation groups
+   * @return result
+   */
+  public static StreamValidationResult validateStream(Iterator<?> beans, ViolationSink sink,
+      long maxViolations, long maxFailingBeans, Class<?>... groups) {
+    Objects.requireNonNull(sink);
+    if (maxViolations <= 0 || maxFailingBeans <= 0) {
+      throw new IllegalArgumentException("maxViolations and maxFailingBeans must be 1 or more. "
+          + "maxViolations: " + maxViolations + ", maxFailingBeans: " + maxFailingBeans);
+    }
+
+    Validator validator = getValidators().validator;
+    Class<?>[] nonNullGroups = groups == null ? new Class<?>[] {} : groups;
+    long index = 0;
+    long violationCount = 0;
+    long failingBeanCount = 0;
+    while (beans.hasNext()) {
+      Set<? extends ConstraintViolation<?>> set =
+          validateInRun(validator, beans.next(), nonNullGroups);
+      long beanIndex = index++;
+      if (set.isEmpty()) {
+        continue;
+      }
+
+      failingBeanCount++;
+      for (ConstraintViolation<?> cv : sort(set)) {
+        sink.accept(beanIndex, cv);
+        if (++violationCount >= maxViolations) {
+          return new StreamValidationResult(index, failingBeanCount, violationCount, true);
+        }
+      }
+
+      if (failingBeanCount >= maxFailingBeans) {
+        return new StreamValidationResult(index, failingBeanCount, violationCount, true);
+      }
+    }
+
+    return new StreamValidationResult(index, failingBeanCount, violationCount, false);
+  }
+
+  /**
+   * Returns the index of the bean in the collection passed to {@link #validateAll}
+   *     from which {@code violation} is created.
+   *
+   * @param violation constraint violation
+   * @return index, {@code null} when {@code violation} is not added by {@code validateAll}
+   */
+  public @Nullable Integer getElementIndex(ConstraintViolation<?> violation) {
+    return elementIndexMap.get(violation);
+  }
+
   /**
    * Sets {@link MessageParameters} to apply when constructing messages from
    *     {@link ConstraintViolation}s.
@@ -195,11 +462,24 @@ public class Violations {
    * @throws ViolationException when one or more violations are present
    */
   public void throwIfAny() {
-    if (!constraintViolations.isEmpty() || !businessViolations.isEmpty()) {
+    if (!isEmpty()) {
       throw new ViolationException(this);
     }
   }
 
+  /**
+   * Throws {@link ViolationException} if any violations have been added.
+   *
+   * @param writableStackTrace {@code false} to throw the exception without a stack trace,
+   *     which overrides {@link ViolationException#isWritableStackTraceAsDefault()}
+   * @throws ViolationException when one or more violations are present
+   */
+  public void throwIfAny(boolean writableStackTrace) {
+    if (!isEmpty()) {
+      throw new ViolationException(this, writableStackTrace);
+    }
+  }
+
   /**
    * Instantiates {@code violationExceptionClass} and throws it if any violations have been added.
    *
@@ -215,7 +495,7 @@ public class Violations {
    *     has no constructor with a {@link Violations} argument
    */
   public <T extends ViolationException> void throwIfAny(Class<T> violationExceptionClass) {
-    if (!constraintViolations.isEmpty() || !businessViolations.isEmpty()) {
+    if (!isEmpty()) {
       try {
         throw violationExceptionClass.getConstructor(Violations.class).newInstance(this);
       } catch (NoSuchMethodException e) {
@@ -234,14 +514,29 @@ public class Violations {
    * @throws ViolationException when one or more violations are present
    */
   public void throwWarningIfAny() {
-    if (!constraintViolations.isEmpty() || !businessViolations.isEmpty()) {
+    if (!isEmpty()) {
       throw new ViolationWarningException(this);
     }
   }
 
+  /**
+   * Throws {@link ViolationWarningException} if any violations have been added.
+   *
+   * @param writableStackTrace {@code false} to throw the exception without a stack trace,
+   *     which overrides {@link ViolationException#isWritableStackTraceAsDefault()}
+   * @throws ViolationWarningException when one or more violations are present
+   */
+  public void throwWarningIfAny(boolean writableStackTrace) {
+    if (!isEmpty()) {
+      throw new ViolationWarningException(this, writableStackTrace);
+    }
+  }
+
   /**
    * Returns a copy of the collected {@link ConstraintViolation}s.
    *
+   * <p>Use {@link #getConstraintViolationsView()} when the copy is not needed.</p>
+   *
    * @return list of constraint violations
    */
   public List<@NonNull ConstraintViolation<?>> getConstraintViolations() {
@@ -251,12 +546,90 @@ public class Violations {
   /**
    * Returns a copy of the collected {@link BusinessViolation}s.
    *
+   * <p>Use {@link #getBusinessViolationsView()} when the copy is not needed.</p>
+   *
    * @return list of business violations
    */
   public List<@NonNull BusinessViolation> getBusinessViolations() {
     return new ArrayList<>(businessViolations);
   }
 
+  /**
+   * Returns an unmodifiable view of the collected {@link ConstraintViolation}s.
+   *
+   * <p>The list is not copied, so violations added later are also seen through it.</p>
+   *
+   * @return unmodifiable list of constraint violations
+   */
+  public List<@NonNull ConstraintViolation<?>> getConstraintViolationsView() {
+    return constraintViolationsView;
+  }
+
+  /**
+   * Returns an unmodifiable view of the collected {@link BusinessViolation}s.
+   *
+   * <p>The list is not copied, so violations added later are also seen through it.</p>
+   *
+   * @return unmodifiable list of business violations
+   */
+  public List<@NonNull BusinessViolation> getBusinessViolationsView() {
+    return businessViolationsView;
+  }
+
+  /**
+   * Performs {@code action} for each collected {@link ConstraintViolation}.
+   *
+   * @param action action
+   */
+  public void forEachConstraintViolation(Consumer<? super ConstraintViolation<?>> action) {
+    constraintViolations.forEach(action);
+  }
+
+  /**
+   * Performs {@code action} for each collected {@link BusinessViolation}.
+   *
+   * @param action action
+   */
+  public void forEachBusinessViolation(Consumer<? super BusinessViolation> action) {
+    businessViolations.forEach(action);
+  }
+
+  /**
+   * Returns a stream of the collected {@link ConstraintViolation}s.
+   *
+   * @return stream of constraint violations
+   */
+  public Stream<@NonNull ConstraintViolation<?>> constraintViolationStream() {
+    return constraintViolationsView.stream();
+  }
+
+  /**
+   * Returns a stream of the collected {@link BusinessViolation}s.
+   *
+   * @return stream of business violations
+   */
+  public Stream<@NonNull BusinessViolation> businessViolationStream() {
+    return businessViolationsView.stream();
+  }
+
+  /**
+   * Returns the total number of collected violations.
+   *
+   * @return the number of {@link ConstraintViolation}s and {@link BusinessViolation}s
+   */
+  public int size() {
+    return constraintViolations.size() + businessViolations.size();
+  }
+
+  /**
+   * Returns whether no violations have been collected.
+   *
+   * @return {@code true} when no violations are present
+   */
+  public boolean isEmpty() {
+    return constraintViolations.isEmpty() && businessViolations.isEmpty();
+  }
+
   /**
    * Returns new MessagepPrameters.
    */
@@ -264,6 +637,122 @@ public class Violations {
     return new Violations.MessageParameters();
   }
 
+  /**
+   * Receives {@link ConstraintViolation}s from {@code validateStream}.
+   */
+  @FunctionalInterface
+  public static interface ViolationSink {
+
+    /**
+     * Receives a violation.
+     *
+     * @param index index of the bean from which {@code violation} is created
+     * @param violation constraint violation
+     */
+    void accept(long index, ConstraintViolation<?> violation);
+  }
+
+  /**
+   * Is the result of {@code validateStream}.
+   *
+   * @param validatedBeanCount number of validated beans
+   * @param failingBeanCount number of beans with violations
+   * @param violationCount number of violations passed to the sink
+   * @param isTerminated {@code true} when validation stopped by the limits
+   */
+  public static record StreamValidationResult(long validatedBeanCount, long failingBeanCount,
+      long violationCount, boolean isTerminated) {
+  }
+
+  /*
+   * Sorts violations of one bean with VIOLATION_ORDER.
+   * Sort keys are created once per violation before sorting.
+   */
+  private static List<ConstraintViolation<?>> sort(
+      Collection<? extends ConstraintViolation<?>> violations) {
+    if (violations.size() <= 1) {
+      return new ArrayList<>(violations);
+    }
+
+    List<ViolationSortKey> keys = new ArrayList<>();
+    for (ConstraintViolation<?> cv : violations) {
+      keys.add(new ViolationSortKey(cv.getPropertyPath().toString(), cv.getMessageTemplate(),
+          cv.getConstraintDescriptor().getAnnotation().annotationType().getName(),
+          attributesString(cv.getConstraintDescriptor().getAttributes()), cv));
+    }
+
+    keys.sort(VIOLATION_ORDER);
+    List<ConstraintViolation<?>> list = new ArrayList<>();
+    keys.forEach(key -> list.add(key.violation()));
+    return list;
+  }
+
+  private static record ViolationSortKey(String propertyPath, String messageTemplate,
+      String annotationType, String attributes, ConstraintViolation<?> violation) {
+  }
+
+  /*
+   * Returns the string of constraint attributes which is the same at every run,
+   * with sorted keys and the contents of arrays.
+   */
+  private static String attributesString(Map<String, Object> attributes) {
+    StringBuilder sb = new StringBuilder();
+    for (Map.Entry<String, Object> entry : new TreeMap<>(attributes).entrySet()) {
+      sb.append(entry.getKey()).append('=')
+          .append(Arrays.deepToString(new Object[] {entry.getValue()})).append(',');
+    }
+
+    return sb.toString();
+  }
+
+  /*
+   * Validates one bean as a validation run of ValidationRunMemo.
+   */
+  private static Set<? extends ConstraintViolation<?>> validateInRun(Validator validator,
+      Object bean, Class<?>[] groups) {
+    return ValidationRunMemo.run(() -> validator.validate(bean, groups));
+  }
+
+  /*
+   * Holds the factory and the validators built from it
+   * so that they are replaced at once by setValidatorFactory.
+   */
+  private static class Validators {
+    private final ValidatorFactory factory;
+    private final Validator validator;
+    private final Validator failFastValidator;
+
+    private Validators(ValidatorFactory factory) {
+      this.factory = factory;
+      this.validator = factory.getValidator();
+      this.failFastValidator = createFailFastValidator(factory, validator);
+    }
+
+    private static Validator createFailFastValidator(ValidatorFactory factory,
+        Validator validator) {
+      try {
+        return HibernateValidatorFailFast.createValidator(factory);
+
+      } catch (ValidationException | LinkageError ex) {
+        // Not Hibernate Validator, or Hibernate Validator is not on the classpath:
+        // fail-fast is not supported.
+        return validator;
+      }
+    }
+  }
+
+  /*
+   * Refers to Hibernate Validator, which is a provided dependency.
+   * It's separated from Validators so that Hibernate Validator classes are loaded
+   * only when this class is used, and their absence is caught as a LinkageError.
+   */
+  private static class HibernateValidatorFailFast {
+    private static Validator createValidator(ValidatorFactory factory) {
+      return factory.unwrap(HibernateValidatorFactory.class).usingContext().failFast(true)
+          .getValidator();
+    }
+  }
+
   /**
    * Stores validation parameters.
    * 
@@ -280,7 +769,9 @@ public class Violations {
    *     before the original message like "About the uploaded excel file, ". 
    *     It may be {@code null}, which means no messages added.</p>
    */
-  public static class MessageParameters {
+  public static class MessageParameters implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private @Nullable Boolean isMessageWithItemName;
     private boolean showsItemNamePath = false;
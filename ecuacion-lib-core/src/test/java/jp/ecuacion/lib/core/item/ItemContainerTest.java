@@ -252,5 +252,22 @@ public class ItemContainerTest {
       assertThatThrownBy(() -> c.getItem("userList[1].name"))
           .isInstanceOf(IllegalStateException.class);
     }
+
+    @Test
+    @DisplayName("levels declaring customizedItems are resolved once per class")
+    void levelsCachedPerClass() {
+      ItemContainerLevels levels = ItemContainerLevels.of(ChildContainer.class);
+      assertThat(ItemContainerLevels.of(ChildContainer.class)).isSameAs(levels);
+      assertThat(levels.getLevelItemsList(new ChildContainer())).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("items are obtained from each instance")
+    void itemsObtainedFromInstance() {
+      UserListContainer c1 = new UserListContainer(new Item("userList[].name").itemNameKey("a.b"));
+      UserListContainer c2 = new UserListContainer(new Item("userList[].name").itemNameKey("c.d"));
+      assertThat(c1.getItem("userList[0].name").getItemNameKey()).isEqualTo("a.b");
+      assertThat(c2.getItem("userList[0].name").getItemNameKey()).isEqualTo("c.d");
+    }
   }
 }
@@ -98,6 +98,21 @@ public class ConstraintViolationBeanTest {
     }
   }
 
+  @Test
+  @DisplayName("message, itemList and embeddedParamMap are created once on first access")
+  public void lazyValuesTest() {
+    for (ConstraintViolation<?> cv : validator.validate(new dataPatternTest.No2.Root())) {
+      ConstraintViolationBean<?> bean = ConstraintViolationBean.createConstraintViolationBean(cv);
+
+      assertThat(bean.toString()).contains("propertyPath:" + cv.getPropertyPath());
+      assertThat(bean.getItemList()).isSameAs(bean.getItemList());
+      assertThat(bean.getEmbeddedParamMap()).isSameAs(bean.getEmbeddedParamMap());
+      assertThat(bean.getEmbeddedParamMap()).containsKeys("invalidValue", "annotation",
+          "itemAttributes");
+      assertThat(bean.getMessage()).isSameAs(bean.getMessage());
+    }
+  }
+
   private void check(ConstraintViolationBean<?> bean, String itemNameKey) {
     Assertions.assertEquals(itemNameKey, bean.getItems()[0].getItemNameKey());
   }
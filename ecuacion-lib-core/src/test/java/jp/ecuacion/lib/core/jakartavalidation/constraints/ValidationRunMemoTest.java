@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2012 ecuacion.jp (info@ecuacion.jp)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.ecuacion.lib.core.jakartavalidation.constraints;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link ValidationRunMemo}. */
+@DisplayName("ValidationRunMemo")
+public class ValidationRunMemoTest {
+
+  private final AtomicInteger count = new AtomicInteger();
+
+  private String compute(Object bean, Object key) {
+    return ValidationRunMemo.computeIfAbsent(bean, key,
+        () -> key + "-" + count.incrementAndGet());
+  }
+
+  @Test
+  @DisplayName("in a run: computed once per bean and key")
+  void inRun() {
+    // equal but not identical beans
+    String bean1 = new String("bean");
+    String bean2 = new String("bean");
+
+    ValidationRunMemo.run(() -> {
+      assertThat(compute(bean1, "a")).isEqualTo("a-1");
+      assertThat(compute(bean1, "a")).isEqualTo("a-1");
+      assertThat(compute(bean1, "b")).isEqualTo("b-2");
+      assertThat(compute(bean2, "a")).isEqualTo("a-3");
+
+      // nested runs share the memo
+      return ValidationRunMemo.run(() -> assertThat(compute(bean1, "a")).isEqualTo("a-1"));
+    });
+
+    // the memo is discarded at the end of the run
+    ValidationRunMemo.run(() -> assertThat(compute(bean1, "a")).isEqualTo("a-4"));
+  }
+
+  @Test
+  @DisplayName("out of a run: computed every time")
+  void outOfRun() {
+    Object bean = new Object();
+    assertThat(compute(bean, "a")).isEqualTo("a-1");
+    assertThat(compute(bean, "a")).isEqualTo("a-2");
+  }
+}
@@ -24,16 +24,22 @@ import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import jp.ecuacion.lib.core.annotation.ItemNameKeyClass;
 import jp.ecuacion.lib.core.exception.ConstraintViolationExceptionWithParameters;
 import jp.ecuacion.lib.core.exception.ViolationException;
@@ -41,6 +47,7 @@ import jp.ecuacion.lib.core.item.Item;
 import jp.ecuacion.lib.core.item.ItemContainer;
 import jp.ecuacion.lib.core.jakartavalidation.constraints.ClassAlwaysFalse;
 import jp.ecuacion.lib.core.jakartavalidation.constraints.MethodAlwaysFalse;
+import jp.ecuacion.lib.core.util.internal.PropertiesFileUtilResolver;
 import jp.ecuacion.lib.core.violation.BusinessViolation;
 import jp.ecuacion.lib.core.violation.Violations;
 import org.jspecify.annotations.Nullable;
@@ -161,6 +168,208 @@ public class ExceptionUtilTest {
     public static record Child(@NotNull @Nullable String name) {}
   }
 
+  // -------------------------------------------------------------------------
+  // Parallel rendering
+  // -------------------------------------------------------------------------
+
+  @Nested
+  @DisplayName("parallel rendering")
+  class ParallelRendering {
+
+    @Test
+    @DisplayName("messages are the same as sequential rendering in the same order")
+    void sameAsSequential() {
+      Violations violations = new Violations();
+      for (int i = 0; i < 300; i++) {
+        violations.validate(new NonCollectionValues.SingleLayer())
+            .validate(new NonCollectionValues.MultipleLayer()).add("MSG1");
+      }
+      violations.withMessageParameters(p -> p.showsItemNamePath(true));
+
+      List<String> expected = ExceptionUtil.getMessageList(violations, Locale.ENGLISH, true);
+      assertThat(expected).hasSize(900);
+      assertThat(ExceptionUtil.getMessageListInParallel(violations, Locale.ENGLISH, true))
+          .isEqualTo(expected);
+
+      ExecutorService executor = Executors.newFixedThreadPool(4);
+      try {
+        assertThat(ExceptionUtil.getMessageList(violations, Locale.ENGLISH, true, executor))
+            .isEqualTo(expected);
+      } finally {
+        executor.shutdown();
+      }
+    }
+
+    @Test
+    @DisplayName("empty violations: empty list")
+    void empty() {
+      assertThat(ExceptionUtil.getMessageListInParallel(new Violations(), Locale.ENGLISH, false))
+          .isEmpty();
+    }
+
+    @Test
+    @DisplayName("suppression of the application environment fallback is carried over to tasks")
+    void fallbackSuppressionCarriedOver() {
+      // The message refers to application.properties.
+      Violations violations = new Violations();
+      for (int i = 0; i < 300; i++) {
+        violations.add("KEY_IN_MSG_TO_APPLICATION");
+      }
+
+      AtomicInteger count = new AtomicInteger();
+      PropertiesFileUtil.setApplicationEnvironmentFallbackResolver(key -> {
+        count.incrementAndGet();
+        return null;
+      });
+      ExecutorService executor = Executors.newFixedThreadPool(4);
+      try {
+        ExceptionUtil.getMessageList(violations, Locale.ENGLISH, true, executor);
+        assertThat(count.get()).isPositive();
+
+        count.set(0);
+        PropertiesFileUtilResolver.withApplicationEnvironmentFallbackSuppressed(
+            () -> ExceptionUtil.getMessageList(violations, Locale.ENGLISH, true, executor));
+        assertThat(count.get()).isZero();
+
+      } finally {
+        executor.shutdown();
+        PropertiesFileUtil.setApplicationEnvironmentFallbackResolver(null);
+      }
+    }
+  }
+
+  // -------------------------------------------------------------------------
+  // Rendered message cache
+  // -------------------------------------------------------------------------
+
+  @Nested
+  @DisplayName("rendered message cache")
+  class RenderedMessageCache {
+
+    public static class Row {
+      @Min(10)
+      private int num;
+
+      @NotBlank
+      private String name;
+
+      Row(int num, String name) {
+        this.num = num;
+        this.name = name;
+      }
+    }
+
+    public static class Rows {
+      @Valid
+      private List<Row> rows;
+
+      Rows(String... names) {
+        rows = Arrays.stream(names).map(name -> new Row(1, name)).toList();
+      }
+    }
+
+    @Test
+    @DisplayName("messages are the same as the ones rendered without the cache")
+    void sameAsWithoutCache() {
+      Violations violations = new Violations().validate(new Rows("", " "))
+          .validate(new Rows("\t", "  ")).add("MSG1")
+          .withMessageParameters(p -> p.showsItemNamePath(true));
+      List<String> expected = ExceptionUtil.getMessageList(violations, Locale.ENGLISH, true);
+
+      ExceptionUtil.setRenderedMessageCacheMaxSize(100);
+      try {
+        List<String> first = ExceptionUtil.getMessageList(violations, Locale.ENGLISH, true);
+        assertThat(first).isEqualTo(expected);
+
+        // Rendered from the cache, which returns the same instances.
+        List<String> second = ExceptionUtil.getMessageList(violations, Locale.ENGLISH, true);
+        assertThat(second).isEqualTo(expected);
+        for (int i = 0; i < second.size() - 1; i++) {
+          assertThat(second.get(i)).isSameAs(first.get(i));
+        }
+
+        // Violations with different invalid values share the message
+        // when the message does not reference the invalid value.
+        List<String> blankMessages =
+            first.stream().filter(m -> m.contains("must not be blank")).toList();
+        assertThat(blankMessages).hasSize(4);
+        for (String message : blankMessages) {
+          assertThat(blankMessages.stream().filter(m -> m.equals(message)))
+              .hasSize(2).allSatisfy(m -> assertThat(m).isSameAs(message));
+        }
+
+        assertThat(ExceptionUtil.getMessageList(violations, Locale.JAPANESE, true))
+            .isNotEqualTo(expected);
+
+      } finally {
+        ExceptionUtil.setRenderedMessageCacheMaxSize(0);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("aggregated messages")
+  class AggregatedMessages {
+
+    public static class Row {
+      @Min(10)
+      private int num;
+
+      @NotNull
+      private @Nullable String name;
+
+      Row(int num, @Nullable String name) {
+        this.num = num;
+        this.name = name;
+      }
+    }
+
+    public static class Rows {
+      @Valid
+      private List<Row> rows = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("one message per (template, indexless path) with counts and sampled indexes")
+    void aggregate() {
+      Rows rows = new Rows();
+      for (int i = 0; i < 10; i++) {
+        rows.rows.add(new Row(i % 2 == 0 ? 1 : 10, i == 5 ? null : "a"));
+      }
+
+      Violations violations = new Violations().validate(rows)
+          .add(new String[] {"rows[1].name"}, "MSG1").add(new String[] {"rows[3].name"}, "MSG1");
+      List<ExceptionUtil.AggregatedMessage> list =
+          ExceptionUtil.getAggregatedMessageList(violations, Locale.ENGLISH, false, 3);
+
+      assertThat(list).hasSize(3);
+      Map<String, ExceptionUtil.AggregatedMessage> map = new HashMap<>();
+      list.forEach(m -> map.put(m.message(), m));
+      ExceptionUtil.AggregatedMessage min =
+          Objects.requireNonNull(map.get("must be greater than or equal to 10"));
+      assertThat(min.count()).isEqualTo(5);
+      assertThat(min.sampleIndexes()).hasSize(3).allMatch(i -> i % 2 == 0);
+      ExceptionUtil.AggregatedMessage notNull =
+          Objects.requireNonNull(map.get("must not be null"));
+      assertThat(notNull.count()).isEqualTo(1);
+      assertThat(notNull.sampleIndexes()).containsExactly(5);
+      assertThat(list.get(2).message()).isEqualTo("message 1.");
+      assertThat(list.get(2).count()).isEqualTo(2);
+      assertThat(list.get(2).sampleIndexes()).containsExactly(1, 3);
+    }
+
+    @Test
+    @DisplayName("indexes set by validateAll are sampled")
+    void validateAll() {
+      List<ExceptionUtil.AggregatedMessage> list = ExceptionUtil.getAggregatedMessageList(
+          new Violations().validateAll(List.of(new Row(10, "a"), new Row(1, "a"),
+              new Row(1, "a"))), Locale.ENGLISH, false, 10);
+      assertThat(list).hasSize(1);
+      assertThat(list.get(0).count()).isEqualTo(2);
+      assertThat(list.get(0).sampleIndexes()).containsExactly(1, 2);
+    }
+  }
+
   // -------------------------------------------------------------------------
   // Non-collection values
   // -------------------------------------------------------------------------
@@ -16,6 +16,7 @@
 package jp.ecuacion.lib.core.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import java.util.List;
 import jp.ecuacion.lib.core.annotation.ItemNameKeyClass;
 import jp.ecuacion.lib.core.item.Item;
 import jp.ecuacion.lib.core.item.ItemContainer;
@@ -35,6 +36,12 @@ public class ItemUtilTest {
     private @Nullable String name;
   }
 
+  private static class BeanWithList {
+    @SuppressWarnings("unused")
+    private List<SimpleBeanWithoutContainer> list =
+        List.of(new SimpleBeanWithoutContainer(), new SimpleBeanWithoutContainer());
+  }
+
   static class SimpleContainer implements ItemContainer {
     @SuppressWarnings("unused")
     private @Nullable String name;
@@ -148,5 +155,15 @@ public class ItemUtilTest {
       Item item = ItemUtil.resolveItem("order.email", root);
       assertThat(item.getItemNameKey()).isEqualTo("custom.email");
     }
+
+    @Test
+    @DisplayName("different indexes: same itemNameKey and each displayPropertyPath")
+    void differentIndexes() {
+      Item item0 = ItemUtil.resolveItem("list[0].name", new BeanWithList());
+      Item item1 = ItemUtil.resolveItem("list[1].name", new BeanWithList());
+      assertThat(item0.getItemNameKey()).isEqualTo("simpleBeanWithoutContainer.name");
+      assertThat(item1.getItemNameKey()).isEqualTo(item0.getItemNameKey());
+      assertThat(item1.getDisplayPropertyPath()).isEqualTo("list[1].name");
+    }
   }
 }
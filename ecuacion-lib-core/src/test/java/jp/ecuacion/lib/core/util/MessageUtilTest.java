@@ -16,7 +16,9 @@
 package jp.ecuacion.lib.core.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import java.util.List;
 import java.util.Locale;
+import jp.ecuacion.lib.core.item.Item;
 import jp.ecuacion.lib.core.util.PropertiesFileUtil.Arg;
 import jp.ecuacion.lib.core.util.internal.PropertiesFileUtilBundleReader;
 import org.junit.jupiter.api.BeforeAll;
@@ -33,6 +35,49 @@ public class MessageUtilTest {
     PropertiesFileUtilBundleReader.addToDynamicPostfixList("lib-core-test");
   }
 
+  private static class Child {
+    @SuppressWarnings("unused")
+    private String name = "";
+  }
+
+  private static class Parent {
+    @SuppressWarnings("unused")
+    private List<Child> children = List.of(new Child(), new Child());
+  }
+
+  @Nested
+  @DisplayName("getItemNames")
+  class GetItemNames {
+
+    @Test
+    @DisplayName("collection layers with different indexes: rendered separately")
+    void differentIndexes() {
+      Parent parent = new Parent();
+      Item item0 = ItemUtil.resolveItem("children[0].name", parent);
+      Item item1 = ItemUtil.resolveItem("children[1].name", parent);
+
+      String name0 = MessageUtil.getItemNames(Locale.ENGLISH, List.of(item0), true, parent);
+      String name1 = MessageUtil.getItemNames(Locale.ENGLISH, List.of(item1), true, parent);
+      assertThat(name0).contains("element 1").doesNotContain("element 2");
+      assertThat(name1).contains("element 2").doesNotContain("element 1");
+
+      // The second call returns the same value from the cache.
+      assertThat(MessageUtil.getItemNames(Locale.ENGLISH, List.of(item0), true, parent))
+          .isEqualTo(name0);
+    }
+
+    @Test
+    @DisplayName("symbols are resolved per locale")
+    void perLocale() {
+      Parent parent = new Parent();
+      List<Item> items = List.of(ItemUtil.resolveItem("children", parent),
+          ItemUtil.resolveItem("children", parent));
+
+      assertThat(MessageUtil.getItemNames(Locale.ENGLISH, items, false, parent))
+          .isNotEqualTo(MessageUtil.getItemNames(Locale.JAPANESE, items, false, parent));
+    }
+  }
+
   @Nested
   @DisplayName("formatValues")
   class GetValuesOfFormattedString {
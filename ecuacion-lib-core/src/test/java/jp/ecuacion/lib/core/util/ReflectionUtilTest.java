@@ -239,6 +239,42 @@ public class ReflectionUtilTest {
     assertThat(found).isEmpty();
   }
 
+  @Test
+  @DisplayName("getDeclaredField and searchAnnotationPlacedAtClass return cached results")
+  @SuppressWarnings("deprecation")
+  public void cacheTest() {
+    // the equal field is returned from the second call, but as a new instance
+    // so that setAccessible by a caller does not affect the others.
+    Field field = ReflectionUtil.getDeclaredField(SecondExtendedClass.class, "value");
+    field.setAccessible(true);
+    Field secondField = ReflectionUtil.getDeclaredField(SecondExtendedClass.class, "value");
+    assertThat(secondField).isEqualTo(field).isNotSameAs(field);
+    assertThat(secondField.isAccessible()).isFalse();
+
+    // PropertyPathUtil does not make the fields accessible for the others either.
+    PropertyPathUtil.getValue(new SimpleClass(), "value");
+    assertThat(PropertyPathUtil.getField(SimpleClass.class, "value").isAccessible())
+        .isFalse();
+
+    // non-existent field throws RuntimeException caused by NoSuchFieldException every time
+    for (int i = 0; i < 2; i++) {
+      try {
+        ReflectionUtil.getDeclaredField(SecondExtendedClass.class, "nonExistent");
+        Assertions.fail();
+      } catch (RuntimeException ex) {
+        assertThat(ex.getCause()).isInstanceOf(NoSuchFieldException.class);
+      }
+    }
+
+    // results of different annotation classes are cached separately
+    assertThat(ReflectionUtil.searchAnnotationPlacedAtClass(
+        AnnotatedSubClass.class, SampleAnnotation.class)).isPresent();
+    assertThat(ReflectionUtil.searchAnnotationPlacedAtClass(
+        AnnotatedSubClass.class, Deprecated.class)).isEmpty();
+    assertThat(ReflectionUtil.searchAnnotationPlacedAtClass(
+        AnnotatedSubClass.class, SampleAnnotation.class)).isPresent();
+  }
+
   @Test
   public void getLeafBeanTest() {
     FieldValueRoot root = new FieldValueRoot();
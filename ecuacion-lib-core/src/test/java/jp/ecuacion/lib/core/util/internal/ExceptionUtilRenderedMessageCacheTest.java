@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2012 ecuacion.jp (info@ecuacion.jp)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.ecuacion.lib.core.util.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import jp.ecuacion.lib.core.util.PropertiesFileUtil.Arg;
+import jp.ecuacion.lib.core.violation.Violations;
+import jp.ecuacion.lib.core.violation.Violations.MessageParameters;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link ExceptionUtilRenderedMessageCache}. */
+@DisplayName("ExceptionUtilRenderedMessageCache")
+public class ExceptionUtilRenderedMessageCacheTest {
+
+  private final MessageParameters params = Violations.newMessageParameters();
+
+  @AfterEach
+  void afterEach() {
+    ExceptionUtilRenderedMessageCache.setMaxSize(0);
+  }
+
+  private @Nullable Object key(Map<@NonNull String, @Nullable Object> map) {
+    return ExceptionUtilRenderedMessageCache.createKey("{tmpl}", Locale.ENGLISH, true, false,
+        params, map, "'name'", true);
+  }
+
+  private Map<@NonNull String, @Nullable Object> map(@Nullable Object value) {
+    Map<@NonNull String, @Nullable Object> map = new HashMap<>();
+    map.put("value", value);
+    map.put("itemAttributes", new Object[] {new Object()});
+    return map;
+  }
+
+  @Test
+  @DisplayName("arrays and Args are compared by their contents")
+  void keyEquality() {
+    assertThat(key(map(new String[] {"a", "b"}))).isEqualTo(key(map(new String[] {"a", "b"})));
+    assertThat(key(map(new int[] {1}))).isNotEqualTo(key(map(new int[] {2})));
+    assertThat(key(map(Arg.message("MSG", "x")))).isEqualTo(key(map(Arg.message("MSG", "x"))));
+    assertThat(key(map(Arg.message("MSG", "x")))).isNotEqualTo(key(map(Arg.message("MSG"))));
+  }
+
+  @Test
+  @DisplayName("values compared by identity: not cacheable")
+  void identityValue() {
+    assertThat(key(map(new Object()))).isNull();
+    assertThat(key(map(new Object[] {new Object()}))).isNull();
+  }
+
+  @Test
+  @DisplayName("get and put: the max size is kept")
+  void getAndPut() {
+    ExceptionUtilRenderedMessageCache.setMaxSize(1);
+    assertThat(ExceptionUtilRenderedMessageCache.isEnabled()).isTrue();
+
+    Object key1 = Objects.requireNonNull(key(map("1")));
+    Object key2 = Objects.requireNonNull(key(map("2")));
+    ExceptionUtilRenderedMessageCache.put(key1, "message 1");
+    assertThat(ExceptionUtilRenderedMessageCache.get(key1)).isEqualTo("message 1");
+
+    ExceptionUtilRenderedMessageCache.put(key2, "message 2");
+    assertThat(ExceptionUtilRenderedMessageCache.get(key1)).isNull();
+    assertThat(ExceptionUtilRenderedMessageCache.get(key2)).isEqualTo("message 2");
+  }
+
+  @Test
+  @DisplayName("invalidValue is a part of the key only when it's included")
+  void invalidValue() {
+    Map<@NonNull String, @Nullable Object> map1 = map("a");
+    map1.put("invalidValue", 1);
+    Map<@NonNull String, @Nullable Object> map2 = map("a");
+    map2.put("invalidValue", 2);
+
+    assertThat(ExceptionUtilRenderedMessageCache.createKey("{tmpl}", Locale.ENGLISH, true, false,
+        params, map1, "'name'", false)).isEqualTo(ExceptionUtilRenderedMessageCache
+            .createKey("{tmpl}", Locale.ENGLISH, true, false, params, map2, "'name'", false));
+    assertThat(key(map1)).isNotEqualTo(key(map2));
+  }
+
+  @Test
+  @DisplayName("referencesInvalidValue: true when the message references it or is not defined")
+  void referencesInvalidValue() {
+    ExceptionUtilRenderedMessageCache.setMaxSize(10);
+    assertThat(ExceptionUtilRenderedMessageCache.referencesInvalidValue(Locale.ENGLISH, true,
+        "jakarta.validation.constraints.Min.message")).isTrue();
+    assertThat(ExceptionUtilRenderedMessageCache.referencesInvalidValue(Locale.ENGLISH, true,
+        "jakarta.validation.constraints.NotBlank.message")).isFalse();
+    assertThat(ExceptionUtilRenderedMessageCache.referencesInvalidValue(Locale.ENGLISH, false,
+        "jakarta.validation.constraints.NotBlank.message")).isTrue();
+  }
+
+  @Test
+  @DisplayName("negative size: IllegalArgumentException")
+  void negativeSize() {
+    assertThatThrownBy(() -> ExceptionUtilRenderedMessageCache.setMaxSize(-1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
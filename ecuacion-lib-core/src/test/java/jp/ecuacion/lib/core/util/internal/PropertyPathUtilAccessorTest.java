@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2012 ecuacion.jp (info@ecuacion.jp)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.ecuacion.lib.core.util.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.util.List;
+import java.util.Set;
+import jp.ecuacion.lib.core.util.PropertyPathUtil.ElementOfCollectionCannotBeObtainedException;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link PropertyPathUtilAccessor}. */
+@DisplayName("PropertyPathUtilAccessor")
+public class PropertyPathUtilAccessorTest {
+
+  static class Parent {
+    @SuppressWarnings("unused")
+    private String parentField = "parent";
+  }
+
+  static class Child extends Parent {
+    @SuppressWarnings("unused")
+    private static String staticField = "static";
+    @SuppressWarnings("unused")
+    private @Nullable Object obj;
+    @SuppressWarnings("unused")
+    private List<Object> list = List.of("a", "b");
+    @SuppressWarnings("unused")
+    private String[] arr = new String[] {"x", "y"};
+    @SuppressWarnings("unused")
+    private Set<String> set = Set.of("s");
+  }
+
+  static class Other {
+    @SuppressWarnings("unused")
+    private String parentField = "other";
+  }
+
+  // -------------------------------------------------------------------------
+  // of
+  // -------------------------------------------------------------------------
+
+  @Nested
+  @DisplayName("of")
+  class Of {
+
+    @Test
+    @DisplayName("same class and propertyPath: returns the cached instance")
+    void cached() {
+      assertThat(PropertyPathUtilAccessor.of(Child.class, "obj.parentField"))
+          .isSameAs(PropertyPathUtilAccessor.of(Child.class, "obj.parentField"));
+    }
+  }
+
+  // -------------------------------------------------------------------------
+  // getValue
+  // -------------------------------------------------------------------------
+
+  @Nested
+  @DisplayName("getValue")
+  class GetValue {
+
+    @Test
+    @DisplayName("field of superclass: obtained")
+    void superclassField() {
+      assertThat(PropertyPathUtilAccessor.getValue(new Child(), "parentField")).isEqualTo("parent");
+    }
+
+    @Test
+    @DisplayName("static field: obtained")
+    void staticField() {
+      assertThat(PropertyPathUtilAccessor.getValue(new Child(), "staticField")).isEqualTo("static");
+    }
+
+    @Test
+    @DisplayName("intermediate value of different classes: obtained from each class")
+    void polymorphicIntermediate() {
+      Child child = new Child();
+      child.obj = new Parent();
+      assertThat(PropertyPathUtilAccessor.getValue(child, "obj.parentField")).isEqualTo("parent");
+
+      child.obj = new Other();
+      assertThat(PropertyPathUtilAccessor.getValue(child, "obj.parentField")).isEqualTo("other");
+    }
+
+    @Test
+    @DisplayName("list and array element: obtained")
+    void listAndArray() {
+      assertThat(PropertyPathUtilAccessor.getValue(new Child(), "list[1]")).isEqualTo("b");
+      assertThat(PropertyPathUtilAccessor.getValue(new Child(), "arr[0]")).isEqualTo("x");
+    }
+
+    @Test
+    @DisplayName("null intermediate value: NullPointerException")
+    void nullIntermediate() {
+      assertThatThrownBy(() -> PropertyPathUtilAccessor.getValue(new Child(), "obj.parentField"))
+          .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("set element: ElementOfCollectionCannotBeObtainedException")
+    void setElement() {
+      assertThatThrownBy(() -> PropertyPathUtilAccessor.getValue(new Child(), "set[]"))
+          .isInstanceOf(ElementOfCollectionCannotBeObtainedException.class);
+    }
+
+    @Test
+    @DisplayName("non-existent field: RuntimeException caused by NoSuchFieldException")
+    void noSuchField() {
+      assertThatThrownBy(() -> PropertyPathUtilAccessor.getValue(new Child(), "nonExistent"))
+          .isInstanceOf(RuntimeException.class).hasCauseInstanceOf(NoSuchFieldException.class);
+    }
+  }
+}
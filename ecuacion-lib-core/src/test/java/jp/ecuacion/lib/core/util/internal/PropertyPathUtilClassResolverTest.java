@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2012 ecuacion.jp (info@ecuacion.jp)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.ecuacion.lib.core.util.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link PropertyPathUtilClassResolver}. */
+@DisplayName("PropertyPathUtilClassResolver")
+public class PropertyPathUtilClassResolverTest {
+
+  record Book(String title, List<List<Integer>> pages) {
+  }
+
+  static class Root {
+    @SuppressWarnings("unused")
+    private @Nullable List<List<String>> strListList;
+    @SuppressWarnings("unused")
+    private Book @Nullable [] bookArr;
+    @SuppressWarnings("unused")
+    private List<Book> @Nullable [] bookListArr;
+    @SuppressWarnings("unused")
+    private @Nullable Map<LocalDate, Book> bookMap;
+    @SuppressWarnings("unused")
+    private @Nullable Set<? extends Number> numSet;
+    @SuppressWarnings("unused")
+    private @Nullable Book book;
+  }
+
+  @Test
+  @DisplayName("nested List: element class of the inner list")
+  void nestedList() {
+    assertThat(PropertyPathUtilClassResolver.getClass(Root.class,
+        "strListList[0].<list element>[1].<list element>")).isEqualTo(String.class);
+  }
+
+  @Test
+  @DisplayName("array and generic array: component class")
+  void array() {
+    assertThat(PropertyPathUtilClassResolver.getClass(Root.class, "bookArr[1].title"))
+        .isEqualTo(String.class);
+    assertThat(PropertyPathUtilClassResolver.getClass(Root.class, "bookListArr[0]"))
+        .isEqualTo(List.class);
+    assertThat(PropertyPathUtilClassResolver.getClass(Root.class, "bookListArr[0][1]"))
+        .isEqualTo(Book.class);
+  }
+
+  @Test
+  @DisplayName("Map: key class with <K> and value class without it")
+  void map() {
+    assertThat(PropertyPathUtilClassResolver.getClass(Root.class, "bookMap<K>[2000-01-01]"))
+        .isEqualTo(LocalDate.class);
+    assertThat(PropertyPathUtilClassResolver.getClass(Root.class, "bookMap[2000-01-01].title"))
+        .isEqualTo(String.class);
+  }
+
+  @Test
+  @DisplayName("wildcard: upper bound class")
+  void wildcard() {
+    assertThat(PropertyPathUtilClassResolver.getClass(Root.class, "numSet[].<iterable element>"))
+        .isEqualTo(Number.class);
+  }
+
+  @Test
+  @DisplayName("record component: resolved")
+  void record() {
+    assertThat(PropertyPathUtilClassResolver.getClass(Root.class,
+        "book.pages[0].<list element>[3].<list element>")).isEqualTo(Integer.class);
+  }
+
+  @Test
+  @DisplayName("different indexes: the cached class is returned")
+  void cached() {
+    assertThat(PropertyPathUtilClassResolver.getClass(Root.class, "bookArr[1]"))
+        .isSameAs(PropertyPathUtilClassResolver.getClass(Root.class, "bookArr[5]"));
+  }
+
+  @Test
+  @DisplayName("non-existent field: RuntimeException")
+  void noSuchField() {
+    assertThatThrownBy(() -> PropertyPathUtilClassResolver.getClass(Root.class, "nonExistent"))
+        .isInstanceOf(RuntimeException.class);
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2012 ecuacion.jp (info@ecuacion.jp)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.ecuacion.lib.core.util.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import jp.ecuacion.lib.core.util.internal.PropertyPathUtilParsedPath.ElementKind;
+import jp.ecuacion.lib.core.util.internal.PropertyPathUtilParsedPath.Node;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link PropertyPathUtilParsedPath}. */
+@DisplayName("PropertyPathUtilParsedPath")
+public class PropertyPathUtilParsedPathTest {
+
+  // -------------------------------------------------------------------------
+  // of
+  // -------------------------------------------------------------------------
+
+  @Nested
+  @DisplayName("of")
+  class Of {
+
+    @Test
+    @DisplayName("same propertyPath: returns the interned instance")
+    void interned() {
+      PropertyPathUtilParsedPath p1 = PropertyPathUtilParsedPath.of("bean.strList[0].<list element>");
+      PropertyPathUtilParsedPath p2 = PropertyPathUtilParsedPath.of("bean.strList[0].<list element>");
+      assertThat(p1).isSameAs(p2);
+    }
+
+    @Test
+    @DisplayName("more propertyPaths than the cache size: still returns correct results")
+    void overflow() {
+      for (int i = 0; i < PropertyPathUtilParsedPath.MAX_CACHE_SIZE + 10; i++) {
+        assertThat(PropertyPathUtilParsedPath.of("list[" + i + "].name").getIndexlessPath())
+            .isEqualTo("list[].name");
+      }
+    }
+
+    @Test
+    @DisplayName("empty propertyPath: no nodes")
+    void empty() {
+      PropertyPathUtilParsedPath p = PropertyPathUtilParsedPath.of("");
+      assertThat(p.getNodeList()).isEmpty();
+      assertThat(p.getRightMostNode()).isEmpty();
+      assertThat(p.getPropertyPathWithoutRightMostNode()).isEmpty();
+    }
+  }
+
+  // -------------------------------------------------------------------------
+  // nodes
+  // -------------------------------------------------------------------------
+
+  @Nested
+  @DisplayName("nodes")
+  class Nodes {
+
+    @Test
+    @DisplayName("nested list: one node with indexes and element kinds")
+    void nestedList() {
+      PropertyPathUtilParsedPath p = PropertyPathUtilParsedPath
+          .of("bean.strList[0].<list element>[1].<list element>");
+      assertThat(p.getNodeStringList())
+          .containsExactly("bean", "strList[0].<list element>[1].<list element>");
+
+      Node node = p.getNodeList().get(1);
+      assertThat(node.fieldName()).isEqualTo("strList");
+      assertThat(node.indexes()).containsExactly("0", "1");
+      assertThat(node.elementKinds()).containsExactly(ElementKind.LIST, ElementKind.LIST);
+      assertThat(node.hasMapKeyMarker()).isFalse();
+      assertThat(p.getRightMostNode()).isEqualTo("strList[0].<list element>[1].<list element>");
+      assertThat(p.getPropertyPathWithoutRightMostNode()).isEqualTo("bean");
+      assertThat(p.getFieldPath()).isEqualTo("bean.strList");
+      assertThat(p.getIndexlessPath()).isEqualTo("bean.strList[][]");
+    }
+
+    @Test
+    @DisplayName("map key: hasMapKeyMarker is true")
+    void mapKey() {
+      Node node = PropertyPathUtilParsedPath.of("strMap<K>[abc].<map key>").getNodeList().get(0);
+      assertThat(node.fieldName()).isEqualTo("strMap");
+      assertThat(node.indexes()).containsExactly("abc");
+      assertThat(node.elementKinds()).containsExactly(ElementKind.MAP_KEY);
+      assertThat(node.hasMapKeyMarker()).isTrue();
+    }
+
+    @Test
+    @DisplayName("bean list: node without element kinds")
+    void beanList() {
+      PropertyPathUtilParsedPath p = PropertyPathUtilParsedPath.of("userList[1].name");
+      assertThat(p.getNodeStringList()).containsExactly("userList[1]", "name");
+      assertThat(p.getNodeList().get(0).elementKinds()).isEmpty();
+      assertThat(p.getNodeList().get(0).hasIndex()).isTrue();
+      assertThat(p.getNodeList().get(1).hasIndex()).isFalse();
+      assertThat(p.getFieldPath()).isEqualTo("userList.name");
+      assertThat(p.getIndexlessPath()).isEqualTo("userList[].name");
+    }
+
+    @Test
+    @DisplayName("set: empty index")
+    void set() {
+      Node node = PropertyPathUtilParsedPath.of("intSet[].<iterable element>").getNodeList().get(0);
+      assertThat(node.indexes()).containsExactly("");
+      assertThat(node.elementKinds()).containsExactly(ElementKind.ITERABLE);
+    }
+  }
+}
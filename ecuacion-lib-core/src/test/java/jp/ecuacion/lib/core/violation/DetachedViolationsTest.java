@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2012 ecuacion.jp (info@ecuacion.jp)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.ecuacion.lib.core.violation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.Locale;
+import jp.ecuacion.lib.core.jakartavalidation.constraints.ClassAlwaysFalse;
+import jp.ecuacion.lib.core.util.ExceptionUtil;
+import jp.ecuacion.lib.core.violation.DetachedViolations.DetachedConstraintViolation;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link DetachedViolations}. */
+@SuppressWarnings({"UnusedVariable", "MultipleNullnessAnnotations"})
+@DisplayName("DetachedViolations")
+public class DetachedViolationsTest {
+
+  public static class Row {
+    @Min(10)
+    private int num;
+
+    @NotNull
+    private @Nullable String name;
+
+    Row(int num, @Nullable String name) {
+      this.num = num;
+      this.name = name;
+    }
+  }
+
+  public static class Rows {
+    @Valid
+    private List<Row> rows = List.of(new Row(1, "a"), new Row(10, "b"), new Row(10, null));
+  }
+
+  @ClassAlwaysFalse(propertyPath = {"str1", "str2"})
+  public static record ClassLevel(@Nullable String str1, @Nullable String str2) {}
+
+  private Violations violations() {
+    return new Violations().validate(new Rows()).add("MSG1");
+  }
+
+  @Test
+  @DisplayName("messages are the same as the ones rendered from Violations")
+  void sameMessages() {
+    Violations violations = violations();
+    DetachedViolations detached = DetachedViolations.of(violations);
+
+    assertThat(detached.size()).isEqualTo(3);
+    for (Locale locale : new Locale[] {Locale.ENGLISH, Locale.JAPANESE}) {
+      for (boolean withItemNames : new boolean[] {true, false}) {
+        assertThat(ExceptionUtil.getMessageList(detached, locale, withItemNames))
+            .containsExactlyInAnyOrderElementsOf(
+                ExceptionUtil.getMessageList(violations, locale, withItemNames));
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("messages are rendered after Java serialization")
+  void serialization() throws Exception {
+    Violations violations = violations().withMessageParameters(p -> p.messagePrefix("P: "));
+    DetachedViolations detached = DetachedViolations.of(violations);
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(detached);
+    }
+
+    DetachedViolations deserialized;
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      deserialized = (DetachedViolations) in.readObject();
+    }
+
+    assertThat(deserialized.getConstraintViolations())
+        .isEqualTo(detached.getConstraintViolations());
+    assertThat(deserialized.getConstraintViolations().stream()
+        .map(DetachedConstraintViolation::propertyPaths).toList())
+        .containsExactlyInAnyOrder(List.of("rows[0].num"), List.of("rows[2].name"));
+    assertThat(ExceptionUtil.getMessageList(deserialized, Locale.ENGLISH, true))
+        .containsExactlyInAnyOrderElementsOf(
+            ExceptionUtil.getMessageList(violations, Locale.ENGLISH, true));
+  }
+
+  @Test
+  @DisplayName("element indexes set by validateAll are kept")
+  void elementIndex() {
+    DetachedViolations detached = DetachedViolations
+        .of(new Violations().validateAll(List.of(new Row(10, "a"), new Row(1, "b"))));
+    assertThat(detached.getConstraintViolations().get(0).elementIndex()).isEqualTo(1);
+    assertThat(detached.getConstraintViolations().get(0).params().get("value")).isEqualTo(10L);
+  }
+
+  @Test
+  @DisplayName("the invalid value of class-level constraints is not kept")
+  void classLevelInvalidValue() {
+    Violations violations = new Violations().validate(new ClassLevel("a", "b"));
+    DetachedViolations detached = DetachedViolations.of(violations);
+
+    assertThat(detached.getConstraintViolations().get(0).params()).doesNotContainKey("invalidValue")
+        .containsEntry("propertyPath", List.of("str1", "str2"));
+    assertThat(ExceptionUtil.getMessageList(detached, Locale.ENGLISH, true))
+        .isEqualTo(ExceptionUtil.getMessageList(violations, Locale.ENGLISH, true));
+  }
+}
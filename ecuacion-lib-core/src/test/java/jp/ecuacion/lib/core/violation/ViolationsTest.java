@@ -21,11 +21,18 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import jp.ecuacion.lib.core.exception.ViolationException;
 import jp.ecuacion.lib.core.exception.ViolationWarningException;
+import java.util.stream.Stream;
 import jp.ecuacion.lib.core.violation.Violations.MessageParameters;
+import jp.ecuacion.lib.core.violation.Violations.StreamValidationResult;
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -110,6 +117,60 @@ public class ViolationsTest {
         .isInstanceOf(ViolationWarningException.class);
   }
 
+  @Test
+  @DisplayName("throwIfAny(boolean) controls whether the stack trace is written")
+  public void throwIfAnyWithWritableStackTrace() {
+    Violations violations = new Violations().add(new BusinessViolation("KEY"));
+    assertThat(Assertions.assertThrows(ViolationException.class,
+        () -> violations.throwIfAny(false)).getStackTrace()).isEmpty();
+    assertThat(Assertions.assertThrows(ViolationException.class,
+        () -> violations.throwIfAny(true)).getStackTrace()).isNotEmpty();
+    assertThat(Assertions.assertThrows(ViolationWarningException.class,
+        () -> violations.throwWarningIfAny(false)).getStackTrace()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("writableStackTraceAsDefault=false: exceptions are created without stack traces")
+  public void writableStackTraceAsDefault() {
+    Violations violations = new Violations().add(new BusinessViolation("KEY"));
+    ViolationException.setWritableStackTraceAsDefault(false);
+    try {
+      assertThat(Assertions.assertThrows(ViolationException.class, violations::throwIfAny)
+          .getStackTrace()).isEmpty();
+      assertThat(Assertions.assertThrows(ViolationWarningException.class,
+          violations::throwWarningIfAny).getStackTrace()).isEmpty();
+      // Specified per throw
+      assertThat(Assertions.assertThrows(ViolationException.class,
+          () -> violations.throwIfAny(true)).getStackTrace()).isNotEmpty();
+
+    } finally {
+      ViolationException.setWritableStackTraceAsDefault(true);
+    }
+  }
+
+  @Test
+  @DisplayName("views: unmodifiable and reflect violations added later without copying")
+  public void views() {
+    Violations violations = new Violations();
+    List<BusinessViolation> view = violations.getBusinessViolationsView();
+    assertThat(violations.isEmpty()).isTrue();
+
+    violations.add(new BusinessViolation("KEY_1")).add(new BusinessViolation("KEY_2"));
+    assertThat(view).hasSize(2);
+    assertThat(violations.getBusinessViolationsView()).isSameAs(view);
+    assertThat(violations.getConstraintViolationsView()).isEmpty();
+    assertThat(violations.size()).isEqualTo(2);
+    assertThat(violations.isEmpty()).isFalse();
+    assertThatThrownBy(() -> view.add(new BusinessViolation("KEY_3")))
+        .isInstanceOf(UnsupportedOperationException.class);
+
+    assertThat(violations.businessViolationStream().map(BusinessViolation::getMessageId))
+        .containsExactly("KEY_1", "KEY_2");
+    List<String> idList = new ArrayList<>();
+    violations.forEachBusinessViolation(bv -> idList.add(bv.getMessageId()));
+    assertThat(idList).containsExactly("KEY_1", "KEY_2");
+  }
+
   @Test
   @DisplayName("addAll(List) adds all business violations")
   public void addAllList() {
@@ -260,4 +321,138 @@ public class ViolationsTest {
       assertThat(mp.getMessagePostfix()).isNotNull();
     }
   }
+
+  // -------------------------------------------------------------------------
+  // validate(...) and ValidatorFactory
+  // -------------------------------------------------------------------------
+
+  @Nested
+  @DisplayName("validate")
+  class Validate {
+
+    @SuppressWarnings("MultipleNullnessAnnotations")
+    private static record TwoFields(@NotNull @Nullable String value1,
+        @NotNull @Nullable String value2) {}
+
+    @Test
+    @DisplayName("validate(Object): all violations are added")
+    void validateAllViolations() {
+      assertThat(new Violations().validate(new TwoFields(null, null)).size()).isEqualTo(2);
+      assertThat(new Violations().validate(new TwoFields("a", "b")).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("validate(Object, true): stops at the first violation")
+    void validateFailFast() {
+      assertThat(new Violations().validate(new TwoFields(null, null), true).size())
+          .isEqualTo(1);
+      assertThat(new Violations().validate(new TwoFields(null, null), false).size())
+          .isEqualTo(2);
+      assertThat(new Violations().validate(new TwoFields("a", "b"), true).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("validateAll: violations are added in order with element indexes")
+    void validateAllInParallel() {
+      List<TwoFields> beans = new ArrayList<>();
+      for (int i = 0; i < 1000; i++) {
+        beans.add(i % 3 == 0 ? new TwoFields(null, null) : new TwoFields("a", "b"));
+      }
+
+      ExecutorService executor = Executors.newFixedThreadPool(4);
+      try {
+        Violations v = new Violations().validateAll(beans, executor);
+        assertThat(v.size()).isEqualTo(334 * 2);
+
+        List<ConstraintViolation<?>> list = v.getConstraintViolationsView();
+        for (int i = 0; i < list.size(); i++) {
+          assertThat(v.getElementIndex(list.get(i))).isEqualTo((i / 2) * 3);
+          assertThat(list.get(i).getPropertyPath().toString())
+              .isEqualTo(i % 2 == 0 ? "value1" : "value2");
+        }
+
+      } finally {
+        executor.shutdown();
+      }
+    }
+
+    private static record TwoPatterns(
+        @Pattern.List({@Pattern(regexp = "a.*"), @Pattern(regexp = ".*z")}) String value) {}
+
+    @Test
+    @DisplayName("validateAll: repeated constraints on the same field are ordered by attributes")
+    void validateAllRepeatedConstraints() {
+      List<TwoPatterns> beans = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        beans.add(new TwoPatterns("b"));
+      }
+
+      List<ConstraintViolation<?>> list =
+          new Violations().validateAll(beans).getConstraintViolationsView();
+      assertThat(list).hasSize(200);
+      for (int i = 0; i < list.size(); i++) {
+        assertThat(list.get(i).getConstraintDescriptor().getAttributes().get("regexp"))
+            .isEqualTo(i % 2 == 0 ? ".*z" : "a.*");
+      }
+    }
+
+    @Test
+    @DisplayName("validateAll: violations added by validate() have no element indexes")
+    void validateAllAndValidate() {
+      Violations v = new Violations().validate(new TwoFields(null, "b"))
+          .validateAll(List.of(new TwoFields("a", null)));
+      List<ConstraintViolation<?>> list = v.getConstraintViolationsView();
+      assertThat(v.getElementIndex(list.get(0))).isNull();
+      assertThat(v.getElementIndex(list.get(1))).isEqualTo(0);
+      assertThat(new Violations().validateAll(List.of()).isEmpty()).isTrue();
+    }
+
+    private Stream<TwoFields> stream() {
+      // Beans at even indexes have 2 violations.
+      return Stream.iterate(0, i -> i + 1).limit(10)
+          .map(i -> i % 2 == 0 ? new TwoFields(null, null) : new TwoFields("a", "b"));
+    }
+
+    @Test
+    @DisplayName("validateStream: all violations are passed to the sink without limits")
+    void validateStream() {
+      List<String> received = new ArrayList<>();
+      StreamValidationResult result = Violations.validateStream(stream(),
+          (index, cv) -> received.add(index + ":" + cv.getPropertyPath()), Long.MAX_VALUE,
+          Long.MAX_VALUE);
+
+      assertThat(result).isEqualTo(new StreamValidationResult(10, 5, 10, false));
+      assertThat(received).startsWith("0:value1", "0:value2", "2:value1").hasSize(10);
+    }
+
+    @Test
+    @DisplayName("validateStream: stops at maxViolations and maxFailingBeans")
+    void validateStreamWithLimits() {
+      List<String> received = new ArrayList<>();
+      StreamValidationResult result = Violations.validateStream(stream(),
+          (index, cv) -> received.add(index + ":" + cv.getPropertyPath()), 3, Long.MAX_VALUE);
+      assertThat(result).isEqualTo(new StreamValidationResult(3, 2, 3, true));
+      assertThat(received).containsExactly("0:value1", "0:value2", "2:value1");
+
+      result = Violations.validateStream(stream(), (index, cv) -> {}, Long.MAX_VALUE, 2);
+      assertThat(result).isEqualTo(new StreamValidationResult(3, 2, 4, true));
+
+      assertThatThrownBy(() -> Violations.validateStream(stream(), (index, cv) -> {}, 0, 1))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("setValidatorFactory: the factory is used")
+    void setValidatorFactory() {
+      ValidatorFactory original = Violations.getValidatorFactory();
+      try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+        Violations.setValidatorFactory(factory);
+        assertThat(Violations.getValidatorFactory()).isSameAs(factory);
+        assertThat(new Violations().validate(new TwoFields(null, null)).size()).isEqualTo(2);
+
+      } finally {
+        Violations.setValidatorFactory(original);
+      }
+    }
+  }
 }
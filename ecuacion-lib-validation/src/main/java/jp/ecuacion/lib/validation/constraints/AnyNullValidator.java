@@ -38,7 +38,8 @@ public class AnyNullValidator extends AllAnyValidator<AnyNull, Object> {
   }
 
   @Override
-  public boolean internalIsValid(Object object, @Nullable ConstraintValidatorContext context) {
-    return numberOfNonNullValues() < propertyPaths.length;
+  protected boolean internalIsValid(Object object, Object[] valuesOfPropertyPaths,
+      @Nullable ConstraintValidatorContext context) {
+    return numberOfNonNullValues(valuesOfPropertyPaths) < propertyPaths.length;
   }
 }
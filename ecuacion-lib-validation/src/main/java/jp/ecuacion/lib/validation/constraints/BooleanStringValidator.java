@@ -19,6 +19,7 @@ import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.jspecify.annotations.Nullable;
 
@@ -27,6 +28,9 @@ import org.jspecify.annotations.Nullable;
  */
 public class BooleanStringValidator implements ConstraintValidator<BooleanString, String> {
 
+  private static final Set<String> allowedLowerCaseStrings =
+      Set.of("true", "false", "on", "off", "yes", "no", "t", "f", "y", "n", "○", "×");
+
   /**
    * Initializes an instance.
    *
@@ -63,15 +67,6 @@ public class BooleanStringValidator implements ConstraintValidator<BooleanString
 
     Objects.requireNonNull(value);
 
-    String[] allowedLowerCaseStrings =
-        new String[] {"true", "false", "on", "off", "yes", "no", "t", "f", "y", "n", "○", "×"};
-
-    for (String keyword : allowedLowerCaseStrings) {
-      if (keyword.equals(value.toLowerCase(Locale.ROOT))) {
-        return true;
-      }
-    }
-
-    return false;
+    return allowedLowerCaseStrings.contains(value.toLowerCase(Locale.ROOT));
   }
 }
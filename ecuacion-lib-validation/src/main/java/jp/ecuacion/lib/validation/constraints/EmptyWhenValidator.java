@@ -42,7 +42,7 @@ public class EmptyWhenValidator extends ValidateWhenValidator<EmptyWhen, Object>
   }
 
   @Override
-  protected boolean isValid(Object valueOfField) {
+  protected boolean isValid(Object valueOfField, ValidationContext context) {
     return valueOfField == null || valueOfField.equals("")
         || valueOfField.equals(EclibValidationConstants.VALIDATOR_PARAMETER_NULL);
   }
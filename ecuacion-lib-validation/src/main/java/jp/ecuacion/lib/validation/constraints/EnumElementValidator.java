@@ -17,7 +17,10 @@ package jp.ecuacion.lib.validation.constraints;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.jspecify.annotations.Nullable;
 
@@ -26,6 +29,17 @@ import org.jspecify.annotations.Nullable;
  */
 public class EnumElementValidator implements ConstraintValidator<EnumElement, String> {
 
+  /**
+   * Caches the set of {@code toString()} of the constants per enum class.
+   */
+  private static final ClassValue<Set<String>> enumStringSetMap = new ClassValue<>() {
+    @Override
+    protected Set<String> computeValue(Class<?> type) {
+      return Arrays.stream(Objects.requireNonNull(type.getEnumConstants())).map(Object::toString)
+          .collect(Collectors.toUnmodifiableSet());
+    }
+  };
+
   // Put anything to avoid null error.
   private Class<?> enumClass = EnumElementValidator.class;
 
@@ -62,15 +76,7 @@ public class EnumElementValidator implements ConstraintValidator<EnumElement, St
             "A class is found. An enum is supposed to be found: " + enumClass.getCanonicalName());
       }
 
-      // Check if designated enum class has hasEnumFromName method.
-      Object[] objs = enumClass.getEnumConstants();
-      for (Object obj : Objects.requireNonNull(objs)) {
-        if (obj.toString().equals(value)) {
-          return true;
-        }
-      }
-
-      return false;
+      return enumStringSetMap.get(enumClass).contains(value);
 
     } catch (Exception ex) {
       throw new RuntimeException(ex);
@@ -21,7 +21,7 @@ import jp.ecuacion.lib.validation.constraints.internal.AbstractNumberStringValid
  * Provides the validation logic for {@code LongString}.
  *
  * <p>A string is valid if the value is blank or {@code Long.valueOf()} does not throw
- *     an exception.</p>
+ *     an exception, which is checked without calling it.</p>
  *
  * <p>Comma-separated values are acceptable. This validator removes commas before checking.
  *     This does not check the positions of the commas are correct.</p>
@@ -39,8 +39,10 @@ import jp.ecuacion.lib.validation.constraints.internal.AbstractNumberStringValid
  */
 public class LongStringValidator extends AbstractNumberStringValidator<LongString> {
 
-  @Override
-  protected void parseNumber(String value) {
-    Long.valueOf(value);
+  /**
+   * Constructs a new instance.
+   */
+  public LongStringValidator() {
+    super(Long.MIN_VALUE, Long.MAX_VALUE);
   }
 }
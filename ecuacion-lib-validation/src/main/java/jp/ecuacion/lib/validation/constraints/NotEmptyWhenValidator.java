@@ -43,7 +43,7 @@ public class NotEmptyWhenValidator extends ValidateWhenValidator<NotEmptyWhen, O
   }
 
   @Override
-  protected boolean isValid(@Nullable Object valueOfField) {
+  protected boolean isValid(@Nullable Object valueOfField, ValidationContext context) {
     if (valueOfField != null
         && valueOfField.equals(EclibValidationConstants.VALIDATOR_PARAMETER_NULL)) {
       valueOfField = null;
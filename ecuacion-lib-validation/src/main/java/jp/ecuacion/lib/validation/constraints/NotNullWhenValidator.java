@@ -42,7 +42,7 @@ public class NotNullWhenValidator extends ValidateWhenValidator<NotNullWhen, Obj
   }
 
   @Override
-  protected boolean isValid(@Nullable Object valueOfField) {
+  protected boolean isValid(@Nullable Object valueOfField, ValidationContext context) {
     if (valueOfField != null
         && valueOfField.equals(EclibValidationConstants.VALIDATOR_PARAMETER_NULL)) {
       valueOfField = null;
@@ -17,6 +17,7 @@ package jp.ecuacion.lib.validation.constraints;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.Set;
 import jp.ecuacion.lib.validation.constant.EclibValidationConstants;
 import jp.ecuacion.lib.validation.constraints.internal.ValidateWhenValidator;
 import org.jspecify.annotations.Nullable;
@@ -26,7 +27,7 @@ import org.jspecify.annotations.Nullable;
  */
 public class NotStringWhenValidator extends ValidateWhenValidator<NotStringWhen, Object> {
 
-  private String[] propertyValueString = new String[] {};
+  private Set<String> propertyValueString = Set.of();
 
   /**
    * Initializes an instance.
@@ -43,11 +44,11 @@ public class NotStringWhenValidator extends ValidateWhenValidator<NotStringWhen,
         annotation.conditionValuePatternRegexp(), annotation.conditionValuePropertyPath(),
         annotation.stringWhenConditionNotSatisfied());
 
-    this.propertyValueString = annotation.string();
+    this.propertyValueString = Set.copyOf(Arrays.asList(annotation.string()));
   }
 
   @Override
-  protected boolean isValid(@Nullable Object valueOfField) {
+  protected boolean isValid(@Nullable Object valueOfField, ValidationContext context) {
     if (valueOfField == null) {
       valueOfField = EclibValidationConstants.VALIDATOR_PARAMETER_NULL;
     }
@@ -56,7 +57,7 @@ public class NotStringWhenValidator extends ValidateWhenValidator<NotStringWhen,
       throw new RuntimeException("The data type of propertyPath must be String.");
     }
 
-    return !Arrays.asList(propertyValueString).contains(valueOfField);
+    return !propertyValueString.contains(valueOfField);
   }
 
 }
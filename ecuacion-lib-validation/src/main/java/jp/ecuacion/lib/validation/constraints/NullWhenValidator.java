@@ -42,7 +42,7 @@ public class NullWhenValidator extends ValidateWhenValidator<NullWhen, Object> {
   }
 
   @Override
-  protected boolean isValid(Object valueOfField) {
+  protected boolean isValid(Object valueOfField, ValidationContext context) {
     return valueOfField == null
         || valueOfField.equals(EclibValidationConstants.VALIDATOR_PARAMETER_NULL);
   }
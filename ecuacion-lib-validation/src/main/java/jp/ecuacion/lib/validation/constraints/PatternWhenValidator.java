@@ -19,6 +19,7 @@ import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import jp.ecuacion.lib.core.util.StringUtil;
+import jp.ecuacion.lib.validation.constraints.internal.PatternCache;
 import jp.ecuacion.lib.validation.constraints.internal.ValidateWhenValidator;
 import org.jspecify.annotations.Nullable;
 
@@ -27,7 +28,7 @@ import org.jspecify.annotations.Nullable;
  */
 public class PatternWhenValidator extends ValidateWhenValidator<PatternWhen, Object> {
 
-  private String regexp = "";
+  private Pattern pattern = PatternCache.get("");
 
   /**
    * Initializes an instance.
@@ -44,11 +45,11 @@ public class PatternWhenValidator extends ValidateWhenValidator<PatternWhen, Obj
         annotation.conditionValuePatternRegexp(), annotation.conditionValuePropertyPath(),
         annotation.notPatternWhenConditionNotSatisfied());
 
-    this.regexp = annotation.regexp();
+    this.pattern = PatternCache.get(annotation.regexp());
   }
 
   @Override
-  protected boolean isValid(Object valueOfField) {
+  protected boolean isValid(Object valueOfField, ValidationContext context) {
     if (StringUtil.isObjectNullOrEmpty(valueOfField)) {
       return false;
     }
@@ -57,8 +58,7 @@ public class PatternWhenValidator extends ValidateWhenValidator<PatternWhen, Obj
       throw new RuntimeException("The data type of propertyPath must be String.");
     }
 
-    Pattern p = Pattern.compile(regexp);
-    Matcher m = p.matcher(s);
+    Matcher m = pattern.matcher(s);
 
     return m.find();
   }
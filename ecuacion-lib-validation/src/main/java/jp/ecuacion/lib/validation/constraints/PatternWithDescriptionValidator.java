@@ -20,6 +20,7 @@ import jakarta.validation.ConstraintValidatorContext;
 import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import jp.ecuacion.lib.validation.constraints.internal.PatternCache;
 import org.apache.commons.lang3.StringUtils;
 import org.jspecify.annotations.Nullable;
 
@@ -29,7 +30,7 @@ import org.jspecify.annotations.Nullable;
 public class PatternWithDescriptionValidator
     implements ConstraintValidator<PatternWithDescription, String> {
 
-  private String regExp = "";
+  private Pattern pattern = PatternCache.get("");
 
   /**
    * Initializes an instance.
@@ -40,7 +41,7 @@ public class PatternWithDescriptionValidator
   @Override
   public void initialize(@Nullable PatternWithDescription annotation) {
     Objects.requireNonNull(annotation);
-    regExp = annotation.regexp();
+    pattern = PatternCache.get(annotation.regexp());
   }
 
   /**
@@ -58,7 +59,7 @@ public class PatternWithDescriptionValidator
     }
 
     Objects.requireNonNull(value);
-    Matcher m = Pattern.compile(regExp).matcher(value);
+    Matcher m = pattern.matcher(value);
     return m.matches();
   }
 }
@@ -17,6 +17,7 @@ package jp.ecuacion.lib.validation.constraints;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.Set;
 import jp.ecuacion.lib.validation.constant.EclibValidationConstants;
 import jp.ecuacion.lib.validation.constraints.internal.ValidateWhenValidator;
 import org.jspecify.annotations.Nullable;
@@ -26,7 +27,7 @@ import org.jspecify.annotations.Nullable;
  */
 public class StringWhenValidator extends ValidateWhenValidator<StringWhen, Object> {
 
-  private String[] string = new String[] {};
+  private Set<String> string = Set.of();
 
   /**
    * Initializes an instance.
@@ -43,11 +44,11 @@ public class StringWhenValidator extends ValidateWhenValidator<StringWhen, Objec
         annotation.conditionValuePatternRegexp(), annotation.conditionValuePropertyPath(),
         annotation.notStringWhenConditionNotSatisfied());
 
-    this.string = annotation.string();
+    this.string = Set.copyOf(Arrays.asList(annotation.string()));
   }
 
   @Override
-  protected boolean isValid(@Nullable Object valueOfField) {
+  protected boolean isValid(@Nullable Object valueOfField, ValidationContext context) {
     if (valueOfField == null) {
       valueOfField = EclibValidationConstants.VALIDATOR_PARAMETER_NULL;
     }
@@ -56,7 +57,7 @@ public class StringWhenValidator extends ValidateWhenValidator<StringWhen, Objec
       throw new RuntimeException("The data type of propertyPath must be String.");
     }
 
-    return Arrays.asList(string).contains(valueOfField);
+    return string.contains(valueOfField);
   }
 
 }
@@ -41,7 +41,7 @@ public class TrueWhenValidator extends ValidateWhenValidator<TrueWhen, Object> {
   }
 
   @Override
-  protected boolean isValid(Object valueOfField) {
+  protected boolean isValid(Object valueOfField, ValidationContext context) {
     if (valueOfField != null && !(valueOfField instanceof Boolean)) {
       throw new RuntimeException("The data type of propertyPath must be boolean");
     }
@@ -15,11 +15,8 @@
  */
 package jp.ecuacion.lib.validation.constraints;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 import jp.ecuacion.lib.core.util.PropertyPathUtil;
-import jp.ecuacion.lib.validation.constant.EclibValidationConstants;
 import jp.ecuacion.lib.validation.constraints.internal.ValidateWhenValidator;
 import org.jspecify.annotations.Nullable;
 
@@ -30,7 +27,19 @@ public class ValueOfPropertyPathWhenValidator
     extends ValidateWhenValidator<ValueOfPropertyPathWhen, Object> {
 
   private String valuePropertyPath = "";
-  private List<Object> propertyValues = new ArrayList<>();
+
+  /*
+   * Holds the value of valuePropertyPath in addition to the state of ValidateWhenValidator.
+   */
+  private static class PropertyValuesContext extends ValidationContext {
+    private final @Nullable Object valueOfValuePropertyPath;
+
+    private PropertyValuesContext(ValidationContext context,
+        @Nullable Object valueOfValuePropertyPath) {
+      super(context.getInstance(), context.satisfiesCondition());
+      this.valueOfValuePropertyPath = valueOfValuePropertyPath;
+    }
+  }
 
   /**
    * Initializes an instance.
@@ -51,29 +60,15 @@ public class ValueOfPropertyPathWhenValidator
   }
 
   @Override
-  public void procedureBeforeLoopForEachPropertyPath(Object instance) {
-    super.procedureBeforeLoopForEachPropertyPath(instance);
-
-    Object valueOfPropertyValuePath = PropertyPathUtil.getValue(instance, valuePropertyPath);
-
-    propertyValues = new ArrayList<>();
-    if (valueOfPropertyValuePath instanceof Object[] arr) {
-      for (Object val : arr) {
-        propertyValues.add(val);
-      }
-    } else {
-      propertyValues.add(valueOfPropertyValuePath);
-    }
-
-    propertyValues.replaceAll(
-        x -> x == null ? EclibValidationConstants.VALIDATOR_PARAMETER_NULL : x);
+  protected ValidationContext createValidationContext(Object instance) {
+    return new PropertyValuesContext(super.createValidationContext(instance),
+        PropertyPathUtil.getValue(instance, valuePropertyPath));
   }
 
   @Override
-  protected boolean isValid(Object valueOfField) {
-    return (valueOfField == null
-        && propertyValues.contains(EclibValidationConstants.VALIDATOR_PARAMETER_NULL))
-        || (valueOfField != null && propertyValues.contains(valueOfField));
+  protected boolean isValid(Object valueOfField, ValidationContext context) {
+    return containsValue(((PropertyValuesContext) context).valueOfValuePropertyPath,
+        valueOfField);
   }
 
 }
@@ -26,8 +26,11 @@ import org.jspecify.annotations.Nullable;
  * Provides common validation logic for number-string validators
  *     such as {@code IntegerStringValidator} and {@code LongStringValidator}.
  *
- * <p>A string is valid if the value is blank or {@link #parseNumber(String)} does not throw
- *     an exception. Comma-separated values are acceptable; commas are removed before checking.</p>
+ * <p>A string is valid if the value is blank
+ *     or it's an integer between the min and max values of the target number type.
+ *     Comma-separated values are acceptable; commas are ignored.
+ *     The string is scanned without allocation or exceptions,
+ *     and accepts the same strings as {@code Long.parseLong} does after removing commas.</p>
  *
  * <p>{@code null} is valid following to the specification of Jakarta EE.</p>
  *
@@ -36,6 +39,20 @@ import org.jspecify.annotations.Nullable;
 public abstract class AbstractNumberStringValidator<A extends Annotation>
     implements ConstraintValidator<A, String> {
 
+  private final long minValue;
+  private final long maxValue;
+
+  /**
+   * Constructs a new instance.
+   *
+   * @param minValue the min value of the target number type like {@code Integer.MIN_VALUE}
+   * @param maxValue the max value of the target number type like {@code Integer.MAX_VALUE}
+   */
+  protected AbstractNumberStringValidator(long minValue, long maxValue) {
+    this.minValue = minValue;
+    this.maxValue = maxValue;
+  }
+
   /** Initializes an instance. */
   @Override
   public void initialize(A constraintAnnotation) {}
@@ -57,24 +74,63 @@ public abstract class AbstractNumberStringValidator<A extends Annotation>
       return true;
     }
 
-    // Remove commas. Don't have to check whether the position of commas is right.
-    String nonNullValue = Objects.requireNonNull(value).replaceAll(",", "");
-
-    try {
-      parseNumber(nonNullValue);
-      return true;
-
-    } catch (Exception e) {
-      return false;
-    }
+    // Commas are ignored. Don't have to check whether the position of commas is right.
+    return isIntegerInRange(Objects.requireNonNull(value), minValue, maxValue);
   }
 
   /**
-   * Parses the given string as the target number type.
+   * Returns whether {@code value} is an integer between {@code min} and {@code max},
+   *     ignoring commas.
    *
-   * <p>Implementations should throw an exception if the string cannot be parsed.</p>
+   * <p>An optional sign followed by one or more decimal digits is accepted,
+   *     which is the same as {@code Long.parseLong}.
+   *     Digits are accumulated as a negative number to detect overflows
+   *     as {@code Long.parseLong} does,
+   *     so {@code min} needs to be {@code 0} or less and {@code max} {@code 0} or more.</p>
    *
-   * @param value the string to parse, never {@code null} or empty
+   * @param value value
+   * @param min min value
+   * @param max max value
+   * @return boolean
    */
-  protected abstract void parseNumber(String value);
+  static boolean isIntegerInRange(String value, long min, long max) {
+    int length = value.length();
+    int i = skipCommas(value, 0);
+
+    boolean isNegative = false;
+    if (i < length && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+      isNegative = value.charAt(i) == '-';
+      i = skipCommas(value, i + 1);
+    }
+
+    long limit = isNegative ? min : -max;
+    long multmin = limit / 10;
+    long result = 0;
+    boolean hasDigit = false;
+    for (; i < length; i = skipCommas(value, i + 1)) {
+      int digit = Character.digit(value.charAt(i), 10);
+      if (digit < 0 || result < multmin) {
+        return false;
+      }
+
+      result *= 10;
+      if (result < limit + digit) {
+        return false;
+      }
+
+      result -= digit;
+      hasDigit = true;
+    }
+
+    return hasDigit;
+  }
+
+  private static int skipCommas(String value, int index) {
+    int i = index;
+    while (i < value.length() && value.charAt(i) == ',') {
+      i++;
+    }
+
+    return i;
+  }
 }
@@ -15,20 +15,31 @@
  */
 package jp.ecuacion.lib.validation.constraints.internal;
 
+import jakarta.validation.ConstraintValidatorContext;
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
 import jp.ecuacion.lib.core.jakartavalidation.constraints.ClassValidator;
 import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.Nullable;
 
 public abstract class AllAnyValidator<A extends Annotation, T> extends ClassValidator<A, T> {
 
-  protected int numberOfNonEmptyValues() {
+  @Override
+  public boolean internalIsValid(T object, @Nullable ConstraintValidatorContext context) {
+    return internalIsValid(object, getValuesOfPropertyPaths(object), context);
+  }
+
+  @Override
+  protected abstract boolean internalIsValid(T object, Object[] valuesOfPropertyPaths,
+      @Nullable ConstraintValidatorContext context);
+
+  protected int numberOfNonEmptyValues(Object[] valuesOfPropertyPaths) {
     return (int) Arrays.stream(valuesOfPropertyPaths)
         .filter(v -> v instanceof String s ? StringUtils.isNotEmpty(s) : v != null)
         .count();
   }
 
-  protected int numberOfNonNullValues() {
+  protected int numberOfNonNullValues(Object[] valuesOfPropertyPaths) {
     return (int) Arrays.stream(valuesOfPropertyPaths).filter(v -> v != null).count();
   }
 }
@@ -26,7 +26,11 @@ import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import jp.ecuacion.lib.core.jakartavalidation.constraints.ClassValidator;
 import jp.ecuacion.lib.core.util.PropertyPathUtil;
 import jp.ecuacion.lib.core.util.StringUtil;
@@ -44,10 +48,39 @@ public abstract class ComparisonValidator<A extends Annotation, T> extends Class
   // Put anything to avoid null error.
   private ComparisonType comparisonType = ComparisonType.GREATER_THAN;
   private TypeConversionFromString typeConversionFromString = TypeConversionFromString.NONE;
-  private String typeConversionDateTimeFormat = "";
+  private @Nullable DateTimeFormatter typeConversionDateTimeFormatter;
 
-  private @Nullable Field fieldOfBasisPropertyPath;
-  private @Nullable Object valueOfBasisPropertyPath;
+  /**
+   * Caches fields per bean class.
+   *
+   * <p>An instance is created per annotation, so it's a cache per (bean class, annotation).
+   *     The types of the fields are checked when they are resolved.</p>
+   */
+  private final Map<@NonNull Class<?>, @NonNull Fields> fieldsMap = new ConcurrentHashMap<>();
+
+  /**
+   * Holds the fields of {@code propertyPath} and {@code baselinePropertyPath}.
+   *
+   * @param fieldsOfPropertyPaths the fields of {@code propertyPath} in the same order
+   * @param fieldOfBasisPropertyPath the field of {@code baselinePropertyPath}
+   */
+  protected static record Fields(List<@NonNull Field> fieldsOfPropertyPaths,
+      Field fieldOfBasisPropertyPath) {
+  }
+
+  /**
+   * Holds the state of one validation.
+   *
+   * <p>Validator instances are cached and shared among threads
+   *     by Jakarta Validation implementations,
+   *     so the state is kept in this object created per validation instead of fields.</p>
+   *
+   * @param fields the fields of the class of the validated instance
+   * @param valueOfBasisPropertyPath the value of {@code baselinePropertyPath}
+   */
+  protected static record ValidationContext(Fields fields,
+      @Nullable Object valueOfBasisPropertyPath) {
+  }
 
   /** Initializes an instance. */
   public void initialize(String message, String[] propertyPath, String baselinePropertyPath,
@@ -58,7 +91,11 @@ public abstract class ComparisonValidator<A extends Annotation, T> extends Class
     this.baselinePropertyPath = baselinePropertyPath;
     this.comparisonType = comparisonType;
     this.typeConversionFromString = typeConversionFromString;
-    this.typeConversionDateTimeFormat = typeConversionDateTimeFormat;
+    this.typeConversionDateTimeFormatter =
+        typeConversionFromString == TypeConversionFromString.DATE
+            ? DateTimeFormatter.ofPattern(typeConversionDateTimeFormat)
+            : null;
+    fieldsMap.clear();
   }
 
   /**
@@ -66,12 +103,19 @@ public abstract class ComparisonValidator<A extends Annotation, T> extends Class
    */
   @Override
   public boolean internalIsValid(Object instance, @Nullable ConstraintValidatorContext context) {
+    return internalIsValid(instance, getValuesOfPropertyPaths(instance), context);
+  }
+
+  @Override
+  protected boolean internalIsValid(Object instance, Object[] valuesOfPropertyPaths,
+      @Nullable ConstraintValidatorContext context) {
 
-    procedureBeforeLoopForEachPropertyPath(instance);
+    ValidationContext validationContext = createValidationContext(instance);
 
     for (int i = 0; i < propertyPaths.length; i++) {
-      boolean result = isValidForSinglePropertyPath(instance, propertyPaths[i],
-          valuesOfPropertyPaths[i]);
+      boolean result = isValidForSinglePropertyPath(
+          validationContext.fields().fieldsOfPropertyPaths().get(i), valuesOfPropertyPaths[i],
+          validationContext);
 
       if (!result) {
         return false;
@@ -81,26 +125,47 @@ public abstract class ComparisonValidator<A extends Annotation, T> extends Class
     return true;
   }
 
-  protected void procedureBeforeLoopForEachPropertyPath(Object instance) {
-    fieldOfBasisPropertyPath = PropertyPathUtil.getField(instance.getClass(), baselinePropertyPath);
-    valueOfBasisPropertyPath = PropertyPathUtil.getValue(instance, baselinePropertyPath);
+  /**
+   * Creates the state of one validation.
+   *
+   * @param instance the validated instance
+   * @return ValidationContext
+   */
+  protected ValidationContext createValidationContext(Object instance) {
+    Fields fields = fieldsMap.get(instance.getClass());
+    if (fields == null) {
+      fields = fieldsMap.computeIfAbsent(instance.getClass(), this::getFields);
+    }
+
+    return new ValidationContext(fields,
+        PropertyPathUtil.getValue(instance, baselinePropertyPath));
   }
 
-  protected boolean isValidForSinglePropertyPath(Object instance, String propertyPath,
-      @Nullable Object valueOfPropertyPath) {
+  private Fields getFields(Class<?> cls) {
+    Field fieldOfBasisPropertyPath = PropertyPathUtil.getField(cls, baselinePropertyPath);
+    List<@NonNull Field> list = new ArrayList<>();
+    for (String propertyPath : propertyPaths) {
+      Field fieldOfPropertyPath = PropertyPathUtil.getField(cls, propertyPath);
 
-    Field fieldOfPropertyPath = PropertyPathUtil.getField(instance.getClass(), propertyPath);
-    @NonNull
-    Field nonNullFieldOfBasisPropertyPath = Objects.requireNonNull(fieldOfBasisPropertyPath);
-
-    // Throws an exception when the types of two PropertyPaths differ.
-    if (!fieldOfPropertyPath.getType()
-        .isAssignableFrom(nonNullFieldOfBasisPropertyPath.getType())) {
-      throw new RuntimeException("Types of two propertyPath differ. propertyPath: "
-          + fieldOfPropertyPath.getType() + ", basisPropertyPath: "
-          + Objects.requireNonNull(nonNullFieldOfBasisPropertyPath).getType());
+      // Throws an exception when the types of two PropertyPaths differ.
+      if (!fieldOfPropertyPath.getType().isAssignableFrom(fieldOfBasisPropertyPath.getType())) {
+        throw new RuntimeException("Types of two propertyPath differ. propertyPath: "
+            + fieldOfPropertyPath.getType() + ", basisPropertyPath: "
+            + fieldOfBasisPropertyPath.getType());
+      }
+
+      list.add(fieldOfPropertyPath);
     }
 
+    return new Fields(List.copyOf(list), fieldOfBasisPropertyPath);
+  }
+
+  protected boolean isValidForSinglePropertyPath(Field fieldOfPropertyPath,
+      @Nullable Object valueOfPropertyPath, ValidationContext context) {
+
+    // Converted below, so it's a local variable not to change the context.
+    @Nullable Object valueOfBasisPropertyPath = context.valueOfBasisPropertyPath();
+
     // True when one of valueOfField or fieldOfBasisPropertyPath is empty.
     boolean isValueOfPropertyPathEmpty = StringUtil.isObjectNullOrEmpty(valueOfPropertyPath);
     boolean isValueOfBasisPropertyPathEmpty =
@@ -128,11 +193,11 @@ public abstract class ComparisonValidator<A extends Annotation, T> extends Class
       String valOfPp = (String) valueOfPropertyPath;
       String valOfBpp = Objects.requireNonNull((String) valueOfBasisPropertyPath);
       if (typeConversionFromString == TypeConversionFromString.NUMBER) {
-        valueOfPropertyPath = new BigDecimal(valOfPp.replaceAll(",", ""));
-        valueOfBasisPropertyPath = new BigDecimal(valOfBpp.replaceAll(",", ""));
+        valueOfPropertyPath = new BigDecimal(removeCommas(valOfPp));
+        valueOfBasisPropertyPath = new BigDecimal(removeCommas(valOfBpp));
 
       } else if (typeConversionFromString == TypeConversionFromString.DATE) {
-        DateTimeFormatter fmt = DateTimeFormatter.ofPattern(typeConversionDateTimeFormat);
+        DateTimeFormatter fmt = Objects.requireNonNull(typeConversionDateTimeFormatter);
         valueOfPropertyPath = LocalDate.parse(valOfPp, fmt);
         valueOfBasisPropertyPath = LocalDate.parse(valOfBpp, fmt);
       }
@@ -169,6 +234,28 @@ public abstract class ComparisonValidator<A extends Annotation, T> extends Class
         : !validWhenLessThanBasis;
   }
 
+  /*
+   * Removes commas without regular expressions. The string is returned as it is
+   * when it doesn't contain commas.
+   */
+  private static String removeCommas(String str) {
+    int index = str.indexOf(',');
+    if (index < 0) {
+      return str;
+    }
+
+    StringBuilder sb = new StringBuilder(str.length());
+    sb.append(str, 0, index);
+    for (int i = index + 1; i < str.length(); i++) {
+      char ch = str.charAt(i);
+      if (ch != ',') {
+        sb.append(ch);
+      }
+    }
+
+    return sb.toString();
+  }
+
   protected boolean isStringValidWhenLessThanBasis(String x1, String x2) {
     byte[] bytesPropertyPath = x1.getBytes(StandardCharsets.UTF_8);
     byte[] bytesBasisPropertyPath = x2.getBytes(StandardCharsets.UTF_8);
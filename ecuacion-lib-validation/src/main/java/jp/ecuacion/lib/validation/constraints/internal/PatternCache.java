@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2012 ecuacion.jp (info@ecuacion.jp)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.ecuacion.lib.validation.constraints.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Shares compiled {@link Pattern}s among validators.
+ *
+ * <p>Validators compile their regular expressions once in {@code initialize},
+ *     and the same regular expression used in many annotations
+ *     (like a code format used in many entities) is compiled only once through this cache.
+ *     {@link Pattern} is immutable and thread-safe, so instances are shared.</p>
+ */
+public final class PatternCache {
+
+  /**
+   * The maximum number of cached patterns.
+   *
+   * <p>Regular expressions come from annotations so the number is usually small,
+   *     but the cache is cleared when it reaches this size to keep the memory usage flat.</p>
+   */
+  static final int MAX_CACHE_SIZE = 1024;
+
+  private static final Map<@NonNull String, @NonNull Pattern> cache = new ConcurrentHashMap<>();
+
+  private PatternCache() {}
+
+  /**
+   * Returns the compiled pattern of {@code regexp}.
+   *
+   * @param regexp regular expression
+   * @return Pattern
+   * @throws java.util.regex.PatternSyntaxException when {@code regexp} is invalid
+   */
+  public static Pattern get(String regexp) {
+    Pattern pattern = cache.get(regexp);
+    if (pattern != null) {
+      return pattern;
+    }
+
+    if (cache.size() >= MAX_CACHE_SIZE) {
+      cache.clear();
+    }
+
+    pattern = Pattern.compile(regexp);
+    Pattern existing = cache.putIfAbsent(regexp, pattern);
+    return existing == null ? pattern : existing;
+  }
+
+  /**
+   * Returns the compiled pattern of {@code regexp},
+   *     or {@code null} when {@code regexp} is empty or invalid.
+   *
+   * <p>It's for validators which report errors in their settings at validation
+   *     instead of {@code initialize}.</p>
+   *
+   * @param regexp regular expression
+   * @return Pattern, may be {@code null}
+   */
+  public static @Nullable Pattern getIfValid(String regexp) {
+    if (regexp.isEmpty()) {
+      return null;
+    }
+
+    try {
+      return get(regexp);
+
+    } catch (PatternSyntaxException ex) {
+      return null;
+    }
+  }
+}
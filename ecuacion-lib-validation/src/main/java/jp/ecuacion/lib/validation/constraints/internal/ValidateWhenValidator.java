@@ -25,9 +25,11 @@ import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import jp.ecuacion.lib.core.jakartavalidation.constraints.ClassValidator;
+import jp.ecuacion.lib.core.jakartavalidation.constraints.ValidationRunMemo;
 import jp.ecuacion.lib.core.util.PropertyPathUtil;
 import jp.ecuacion.lib.core.util.StringUtil;
 import jp.ecuacion.lib.validation.constant.EclibValidationConstants;
@@ -43,10 +45,47 @@ public abstract class ValidateWhenValidator<A extends Annotation, T> extends Cla
   private ConditionOperator conditionOperator = ConditionOperator.EQUAL_TO;
   private String[] conditionValueString = new String[] {};
   private String conditionValueRegexp = "";
+  private @Nullable Pattern conditionValueCompiledPattern;
   private String conditionValuePropertyPath = "";
   private boolean validatesWhenConditionNotSatisfied;
 
-  private boolean satisfiesCondition = false;
+  /*
+   * Identifies the condition for ValidationRunMemo.
+   * Constraints with the same condition on one bean share the result.
+   */
+  private static record ConditionKey(String conditionPropertyPath,
+      ConditionValue conditionPattern, ConditionOperator conditionOperator,
+      List<String> conditionValueString, String conditionValueRegexp,
+      String conditionValuePropertyPath) {
+  }
+
+  /*
+   * Whether the deprecated isValidWhenConditionNotSatisfied(Object) is overridden,
+   * and the context passed to its default implementation while it's called.
+   */
+  private static final ClassValue<Boolean> overridesDeprecatedIsValidWhenConditionNotSatisfied =
+      new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+          for (Class<?> cls = type; cls != null && cls != ValidateWhenValidator.class;
+              cls = cls.getSuperclass()) {
+            boolean isOverridden = Arrays.stream(cls.getDeclaredMethods())
+                .anyMatch(m -> m.getName().equals("isValidWhenConditionNotSatisfied")
+                    && Arrays.equals(m.getParameterTypes(), new Class<?>[] {Object.class}));
+            if (isOverridden) {
+              return true;
+            }
+          }
+
+          return false;
+        }
+      };
+  private static final ThreadLocal<@Nullable ValidationContext> deprecatedMethodContext =
+      new ThreadLocal<>();
+
+  // Put anything to avoid null error.
+  private ConditionKey conditionKey =
+      new ConditionKey("", ConditionValue.EMPTY, EQUAL_TO, List.of(), "", "");
 
   public static final String CONDITION_PROPERTY_PATH = "conditionPropertyPath";
   public static final String CONDITION_PROPERTY_PATH_ITEM_NAME_KEY =
@@ -74,22 +113,77 @@ public abstract class ValidateWhenValidator<A extends Annotation, T> extends Cla
     this.conditionOperator = conditionOperator;
     this.conditionValueString = conditionValueString;
     this.conditionValueRegexp = conditionValuePattern;
+    // Errors in conditions are reported at validation, so a malformed pattern is left null here.
+    this.conditionValueCompiledPattern = PatternCache.getIfValid(conditionValuePattern);
     this.conditionValuePropertyPath = conditionValuePropertyPath;
     this.validatesWhenConditionNotSatisfied = validatesWhenConditionNotSatisfied;
+
+    this.conditionKey = new ConditionKey(conditionPropertyPath, conditionPattern,
+        conditionOperator, List.of(conditionValueString), conditionValuePattern,
+        conditionValuePropertyPath);
+  }
+
+  /**
+   * Holds the state of one validation.
+   *
+   * <p>Validator instances are cached and shared among threads
+   *     by Jakarta Validation implementations,
+   *     so the state is kept in this object created per validation instead of fields.
+   *     Subclasses which need more state extend this class
+   *     and override {@link #createValidationContext(Object)}.</p>
+   */
+  protected static class ValidationContext {
+    private final Object instance;
+    private final boolean satisfiesCondition;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param instance the validated instance
+     * @param satisfiesCondition whether the condition is satisfied
+     */
+    protected ValidationContext(Object instance, boolean satisfiesCondition) {
+      this.instance = instance;
+      this.satisfiesCondition = satisfiesCondition;
+    }
+
+    public Object getInstance() {
+      return instance;
+    }
+
+    public boolean satisfiesCondition() {
+      return satisfiesCondition;
+    }
   }
 
-  protected abstract boolean isValid(Object valueOfField);
+  /**
+   * Validates the value of a propertyPath when the condition is satisfied.
+   *
+   * <p>Validators which don't need the state of the validation can ignore {@code context}.</p>
+   *
+   * @param valueOfField valueOfField
+   * @param context the state of the validation
+   * @return boolean
+   */
+  protected abstract boolean isValid(Object valueOfField, ValidationContext context);
 
   /**
    * Executes validation check.
    */
   @Override
   public boolean internalIsValid(Object instance, @Nullable ConstraintValidatorContext context) {
+    return internalIsValid(instance, getValuesOfPropertyPaths(instance), context);
+  }
+
+  @Override
+  protected boolean internalIsValid(Object instance, Object[] valuesOfPropertyPaths,
+      @Nullable ConstraintValidatorContext context) {
 
-    procedureBeforeLoopForEachPropertyPath(instance);
+    ValidationContext validationContext = createValidationContext(instance);
 
     for (int i = 0; i < propertyPaths.length; i++) {
-      boolean result = isValidForSinglePropertyPath(propertyPaths[i], valuesOfPropertyPaths[i]);
+      boolean result = isValidForSinglePropertyPath(propertyPaths[i], valuesOfPropertyPaths[i],
+          validationContext);
 
       if (!result) {
         return false;
@@ -99,17 +193,29 @@ public abstract class ValidateWhenValidator<A extends Annotation, T> extends Cla
     return true;
   }
 
-  public void procedureBeforeLoopForEachPropertyPath(Object instance) {
-    satisfiesCondition = getSatisfiesCondition(instance);
+  /**
+   * Creates the state of one validation.
+   *
+   * <p>In a run of {@link ValidationRunMemo}, the condition is evaluated once per bean
+   *     and shared among constraints with the same condition.</p>
+   *
+   * @param instance the validated instance
+   * @return ValidationContext
+   */
+  protected ValidationContext createValidationContext(Object instance) {
+    boolean satisfiesCondition = ValidationRunMemo.computeIfAbsent(instance, conditionKey,
+        () -> getSatisfiesCondition(instance));
+    return new ValidationContext(instance, satisfiesCondition);
   }
 
-  protected boolean isValidForSinglePropertyPath(String itemPropertyPath, Object valueOfField) {
-    if (satisfiesCondition) {
-      return isValid(valueOfField);
+  protected boolean isValidForSinglePropertyPath(String itemPropertyPath, Object valueOfField,
+      ValidationContext context) {
+    if (context.satisfiesCondition()) {
+      return isValid(valueOfField, context);
 
     } else {
       if (validatesWhenConditionNotSatisfied) {
-        return isValidWhenConditionNotSatisfied(valueOfField);
+        return isValidWhenConditionNotSatisfied(valueOfField, context);
 
       } else {
         return true;
@@ -218,7 +324,11 @@ public abstract class ValidateWhenValidator<A extends Annotation, T> extends Cla
       throw new RuntimeException("'conditionValuePattern' must be set.");
     }
 
-    Pattern p = Pattern.compile(conditionValueRegexp);
+    Pattern p = conditionValueCompiledPattern;
+    if (p == null) {
+      p = PatternCache.get(conditionValueRegexp);
+    }
+
     Matcher m = p.matcher(s);
 
     boolean satisfies = m.find();
@@ -273,15 +383,79 @@ public abstract class ValidateWhenValidator<A extends Annotation, T> extends Cla
   /**
    * Is called when {@code validatesWhenConditionNotSatisfied} is {@code true}.
    *
-   * <p>The default implementation returns {@code !isValid(valueOfField)},
+   * <p>The default implementation returns {@code !isValid(valueOfField, context)},
    *     which validates the inverse condition.
    *     Override this method if different behavior is needed.</p>
    *
+   * <p>When a subclass overrides the deprecated
+   *     {@link #isValidWhenConditionNotSatisfied(Object)}, it's called instead.</p>
+   *
    * @param valueOfField valueOfField
+   * @param context the state of the validation
    * @return boolean
    */
+  protected boolean isValidWhenConditionNotSatisfied(Object valueOfField,
+      ValidationContext context) {
+    if (!overridesDeprecatedIsValidWhenConditionNotSatisfied.get(getClass())) {
+      return !isValid(valueOfField, context);
+    }
+
+    deprecatedMethodContext.set(context);
+    try {
+      return isValidWhenConditionNotSatisfied(valueOfField);
+
+    } finally {
+      deprecatedMethodContext.remove();
+    }
+  }
+
+  /**
+   * Is called when {@code validatesWhenConditionNotSatisfied} is {@code true}.
+   *
+   * <p>It's kept for the subclasses which override it,
+   *     and called from {@link #isValidWhenConditionNotSatisfied(Object, ValidationContext)}
+   *     only when it's overridden.
+   *     The default implementation returns {@code !isValid(valueOfField, context)}.</p>
+   *
+   * @param valueOfField valueOfField
+   * @return boolean
+   * @deprecated Override {@link #isValidWhenConditionNotSatisfied(Object, ValidationContext)}
+   *     instead.
+   */
+  @Deprecated
   protected boolean isValidWhenConditionNotSatisfied(Object valueOfField) {
-    return !isValid(valueOfField);
+    return !isValid(valueOfField, Objects.requireNonNull(deprecatedMethodContext.get()));
+  }
+
+  /**
+   * Returns whether {@code valueOfPropertyPath} contains {@code value}.
+   *
+   * <p>When {@code valueOfPropertyPath} is an array, its elements are checked.
+   *     {@code null}s are compared as
+   *     {@link EclibValidationConstants#VALIDATOR_PARAMETER_NULL}.
+   *     Elements are scanned directly since the array belongs to the validated bean
+   *     and is usually small.</p>
+   *
+   * @param valueOfPropertyPath a value or an array of values
+   * @param value value
+   * @return boolean
+   */
+  protected static boolean containsValue(@Nullable Object valueOfPropertyPath,
+      @Nullable Object value) {
+    Object nonNullValue = value == null ? EclibValidationConstants.VALIDATOR_PARAMETER_NULL : value;
+    if (valueOfPropertyPath instanceof Object[] arr) {
+      for (Object element : arr) {
+        if (nonNullValue.equals(
+            element == null ? EclibValidationConstants.VALIDATOR_PARAMETER_NULL : element)) {
+          return true;
+        }
+      }
+
+      return false;
+    }
+
+    return nonNullValue.equals(valueOfPropertyPath == null
+        ? EclibValidationConstants.VALIDATOR_PARAMETER_NULL : valueOfPropertyPath);
   }
 
   private void conditionValuePropertyPathMustNotSet() {
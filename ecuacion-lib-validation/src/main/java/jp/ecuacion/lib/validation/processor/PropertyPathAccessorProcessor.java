@@ -0,0 +1,338 @@
+/*
+ * Copyright © 2012 ecuacion.jp (info@ecuacion.jp)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.ecuacion.lib.validation.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import jp.ecuacion.lib.core.jakartavalidation.constraints.PropertyPathAccessorTable;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Generates {@link PropertyPathAccessorTable} implementations
+ *     for classes with class-level constraints.
+ *
+ * <p>The propertyPaths are collected from the attributes named {@code propertyPath}
+ *     or ending with {@code PropertyPath}
+ *     (like {@code conditionPropertyPath}, {@code baselinePropertyPath}
+ *     and {@code valuePropertyPath}) of the constraint annotations placed at the class.
+ *     Each node of a propertyPath is accessed by its field directly,
+ *     so the generated accessors return the same values as the reflective field access.</p>
+ *
+ * <p>PropertyPaths with collection parts (like {@code list[0]})
+ *     and the ones with fields which cannot be accessed from the package of the class
+ *     (like private fields and record components) are skipped,
+ *     and they are resolved by reflection at runtime as before.
+ *     Getters are not used since they may return values different from the fields.</p>
+ *
+ * <p>This processor is optional and not registered as a service,
+ *     so specify it explicitly to use it, like
+ *     {@code javac -processor jp.ecuacion.lib.validation.processor.PropertyPathAccessorProcessor}
+ *     or {@code annotationProcessors} of {@code maven-compiler-plugin}.</p>
+ */
+@SupportedAnnotationTypes("*")
+public class PropertyPathAccessorProcessor extends AbstractProcessor {
+
+  private static final String CONSTRAINT_ANNOTATION = "jakarta.validation.Constraint";
+
+  /**
+   * Constructs a new instance.
+   */
+  public PropertyPathAccessorProcessor() {}
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+      processType(type);
+    }
+
+    // Annotations are not claimed so other processors can process them.
+    return false;
+  }
+
+  private void processType(TypeElement type) {
+    generate(type);
+
+    for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+      processType(nested);
+    }
+  }
+
+  private void generate(TypeElement type) {
+    String packageName =
+        processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+
+    boolean isConcreteClass = type.getKind() == ElementKind.RECORD
+        || (type.getKind() == ElementKind.CLASS
+            && !type.getModifiers().contains(Modifier.ABSTRACT));
+    if (!isConcreteClass || !isAccessible(type, packageName)) {
+      return;
+    }
+
+    Set<@NonNull String> propertyPaths = new TreeSet<>();
+    for (AnnotationMirror am : type.getAnnotationMirrors()) {
+      collectPropertyPaths(am, propertyPaths);
+    }
+
+    Map<@NonNull String, @NonNull String> expressionMap = new LinkedHashMap<>();
+    for (String propertyPath : propertyPaths) {
+      String expression = createExpression(type, propertyPath, packageName);
+      if (expression != null) {
+        expressionMap.put(propertyPath, expression);
+      }
+    }
+
+    if (expressionMap.isEmpty()) {
+      return;
+    }
+
+    writeSource(type, packageName, expressionMap);
+  }
+
+  private void collectPropertyPaths(AnnotationMirror am, Set<@NonNull String> propertyPaths) {
+    boolean isConstraint = am.getAnnotationType().asElement().getAnnotationMirrors().stream()
+        .anyMatch(meta -> ((TypeElement) meta.getAnnotationType().asElement()).getQualifiedName()
+            .contentEquals(CONSTRAINT_ANNOTATION));
+
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv
+        .getElementUtils().getElementValuesWithDefaults(am).entrySet()) {
+      String name = entry.getKey().getSimpleName().toString();
+      boolean isPropertyPath =
+          isConstraint && (name.equals("propertyPath") || name.endsWith("PropertyPath"));
+      collectPropertyPaths(entry.getValue().getValue(), isPropertyPath, propertyPaths);
+    }
+  }
+
+  private void collectPropertyPaths(Object value, boolean isPropertyPath,
+      Set<@NonNull String> propertyPaths) {
+    if (value instanceof AnnotationMirror nested) {
+      // Constraints in the container of repeatable annotations.
+      collectPropertyPaths(nested, propertyPaths);
+
+    } else if (value instanceof List<?> list) {
+      for (Object element : list) {
+        if (element instanceof AnnotationValue av) {
+          collectPropertyPaths(av.getValue(), isPropertyPath, propertyPaths);
+        }
+      }
+
+    } else if (value instanceof String str && isPropertyPath && !str.isEmpty()) {
+      propertyPaths.add(str);
+    }
+  }
+
+  /*
+   * Returns the java expression which obtains the value of the propertyPath from "obj",
+   * or null when it cannot be obtained without reflection.
+   */
+  private @Nullable String createExpression(TypeElement rootType, String propertyPath,
+      String packageName) {
+    if (propertyPath.contains("[") || propertyPath.contains("<")) {
+      return null;
+    }
+
+    StringBuilder expression =
+        new StringBuilder("((" + rootType.getQualifiedName() + ") obj)");
+    TypeMirror currentType = processingEnv.getTypeUtils().erasure(rootType.asType());
+    String[] nodes = propertyPath.split("\\.", -1);
+    for (int i = 0; i < nodes.length; i++) {
+      if (!(currentType instanceof DeclaredType dt)
+          || !(dt.asElement() instanceof TypeElement currentElement)
+          || !isAccessible(currentElement, packageName)) {
+        return null;
+      }
+
+      Access access = findAccess(currentElement, nodes[i], packageName);
+      if (access == null) {
+        return null;
+      }
+
+      if (i > 0) {
+        // Same as PropertyPathUtil#getValue, which throws NullPointerException
+        // when an intermediate value is null.
+        expression.insert(0, "java.util.Objects.requireNonNull(").append(")");
+      }
+
+      expression.append(access.suffix());
+      currentType = processingEnv.getTypeUtils().erasure(access.type());
+    }
+
+    return expression.toString();
+  }
+
+  private @Nullable Access findAccess(TypeElement type, String name, String packageName) {
+    VariableElement field = findField(type, name);
+    if (field == null || field.getModifiers().contains(Modifier.STATIC)
+        || !isAccessible(field, packageName)) {
+      return null;
+    }
+
+    return new Access("." + name, field.asType());
+  }
+
+  /*
+   * Searches the field in the same way as ReflectionUtil#getDeclaredField.
+   */
+  private @Nullable VariableElement findField(TypeElement type, String name) {
+    TypeElement tmpType = type;
+    while (tmpType != null
+        && !tmpType.getQualifiedName().contentEquals(Object.class.getName())) {
+      for (VariableElement field : ElementFilter.fieldsIn(tmpType.getEnclosedElements())) {
+        if (field.getSimpleName().contentEquals(name)) {
+          return field;
+        }
+      }
+
+      tmpType = tmpType.getSuperclass() instanceof DeclaredType dt
+          && dt.asElement() instanceof TypeElement te ? te : null;
+    }
+
+    return null;
+  }
+
+  private boolean isAccessible(Element element, String packageName) {
+    for (Element tmp = element; tmp instanceof TypeElement
+        || tmp instanceof VariableElement
+        || tmp instanceof ExecutableElement; tmp = tmp.getEnclosingElement()) {
+      Set<Modifier> modifiers = tmp.getModifiers();
+      if (modifiers.contains(Modifier.PRIVATE)) {
+        return false;
+      }
+
+      if (!modifiers.contains(Modifier.PUBLIC) && !processingEnv.getElementUtils()
+          .getPackageOf(tmp).getQualifiedName().contentEquals(packageName)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private void writeSource(TypeElement type, String packageName,
+      Map<@NonNull String, @NonNull String> expressionMap) {
+    String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+    String simpleName =
+        (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+            + PropertyPathAccessorTable.CLASS_NAME_SUFFIX;
+    String qualifiedName = (packageName.isEmpty() ? "" : packageName + ".") + simpleName;
+
+    try {
+      JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+      try (PrintWriter pw = new PrintWriter(file.openWriter())) {
+        if (!packageName.isEmpty()) {
+          pw.println("package " + packageName + ";");
+          pw.println();
+        }
+
+        pw.println("/**");
+        pw.println(" * Provides accessors to the values of propertyPaths of {@code "
+            + type.getQualifiedName() + "}.");
+        pw.println(" *");
+        pw.println(" * <p>Generated by " + getClass().getName() + ".</p>");
+        pw.println(" */");
+        pw.println("@SuppressWarnings({\"rawtypes\", \"unchecked\"})");
+        pw.println("public final class " + simpleName + " implements "
+            + PropertyPathAccessorTable.class.getName() + " {");
+        pw.println();
+        pw.println("  private static final java.util.Map<String, "
+            + "java.util.function.Function<Object, Object>> ACCESSORS;");
+        pw.println();
+        pw.println("  static {");
+        pw.println("    java.util.Map<String, java.util.function.Function<Object, Object>> map ="
+            + " new java.util.HashMap<>();");
+        for (Map.Entry<@NonNull String, @NonNull String> entry : expressionMap.entrySet()) {
+          pw.println("    map.put(" + toStringLiteral(entry.getKey()) + ", obj -> "
+              + entry.getValue() + ");");
+        }
+        pw.println("    ACCESSORS = java.util.Collections.unmodifiableMap(map);");
+        pw.println("  }");
+        pw.println();
+        pw.println("  @Override");
+        pw.println("  public Class<?> getTargetClass() {");
+        pw.println("    return " + type.getQualifiedName() + ".class;");
+        pw.println("  }");
+        pw.println();
+        pw.println("  @Override");
+        pw.println("  public java.util.Map<String, java.util.function.Function<Object, Object>>"
+            + " getAccessors() {");
+        pw.println("    return ACCESSORS;");
+        pw.println("  }");
+        pw.println("}");
+      }
+
+    } catch (IOException ex) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+          "Failed to generate " + qualifiedName + ": " + ex.getMessage(), type);
+    }
+  }
+
+  /*
+   * Returns the java string literal of the argument string.
+   */
+  static String toStringLiteral(String str) {
+    StringBuilder sb = new StringBuilder("\"");
+    for (int i = 0; i < str.length(); i++) {
+      char ch = str.charAt(i);
+      switch (ch) {
+        case '"' -> sb.append("\\\"");
+        case '\\' -> sb.append("\\\\");
+        case '\n' -> sb.append("\\n");
+        case '\r' -> sb.append("\\r");
+        case '\t' -> sb.append("\\t");
+        default -> {
+          if (ch < 0x20 || ch > 0x7e) {
+            sb.append(String.format("\\u%04x", (int) ch));
+
+          } else {
+            sb.append(ch);
+          }
+        }
+      }
+    }
+
+    return sb.append('"').toString();
+  }
+
+  private static record Access(String suffix, TypeMirror type) {
+  }
+}
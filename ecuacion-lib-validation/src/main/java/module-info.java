@@ -21,9 +21,13 @@ open module jp.ecuacion.lib.validation {
   exports jp.ecuacion.lib.validation.constant;
   exports jp.ecuacion.lib.validation.constraints;
   exports jp.ecuacion.lib.validation.constraints.enums;
+  exports jp.ecuacion.lib.validation.processor;
 
   requires transitive jakarta.validation;
   requires transitive jp.ecuacion.lib.core;
 
   requires org.apache.commons.lang3;
+
+  // Only for the optional annotation processor.
+  requires static java.compiler;
 }
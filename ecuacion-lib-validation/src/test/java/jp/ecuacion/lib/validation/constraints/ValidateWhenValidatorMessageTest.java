@@ -18,11 +18,13 @@ package jp.ecuacion.lib.validation.constraints;
 import static org.assertj.core.api.Assertions.assertThat;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
+import java.util.List;
 import java.util.Locale;
 import java.util.stream.Stream;
 import jp.ecuacion.lib.core.annotation.ItemNameKeyClass;
 import jp.ecuacion.lib.core.util.ExceptionUtil;
 import jp.ecuacion.lib.core.util.PropertiesFileUtil;
+import jp.ecuacion.lib.core.violation.Violations;
 import jp.ecuacion.lib.validation.constraints.enums.ConditionOperator;
 import jp.ecuacion.lib.validation.constraints.enums.ConditionValue;
 import org.jspecify.annotations.Nullable;
@@ -238,6 +240,61 @@ public class ValidateWhenValidatorMessageTest {
     assertThat(msg).isEqualTo("needs to be not empty when 'condition value' is empty");
   }
 
+  @Test
+  @DisplayName("aggregated messages are grouped by propertyPaths of class-level constraints")
+  public void aggregatedMessagesOfClassLevelConstraints() {
+    List<ExceptionUtil.AggregatedMessage> list = ExceptionUtil.getAggregatedMessageList(
+        new Violations().validateAll(
+            List.of(new TwoNotEmptyWhenBean(), new TwoNotEmptyWhenBean())),
+        Locale.ENGLISH, false, 10);
+
+    // Violations of "a" and "b" are not merged even though the paths of the beans are the same.
+    assertThat(list).hasSize(2);
+    assertThat(list).allSatisfy(m -> {
+      assertThat(m.count()).isEqualTo(2);
+      assertThat(m.sampleIndexes()).containsExactly(0, 1);
+    });
+  }
+
+  @Test
+  @DisplayName("messages of class-level constraints are cached regardless of the beans")
+  public void renderedMessageCacheOfClassLevelConstraints() {
+    ExceptionUtil.setRenderedMessageCacheMaxSize(100);
+    try {
+      // The invalid values are the beans, which are compared by identity,
+      // and the message not in the properties files may reference the invalid value.
+      List<String> list = ExceptionUtil.getMessageList(new Violations()
+          .validate(new NotDefinedMessageBean()).validate(new NotDefinedMessageBean()),
+          Locale.ENGLISH, false);
+      assertThat(list).containsExactly("not defined message of conditionField",
+          "not defined message of conditionField");
+      assertThat(list.get(1)).isSameAs(list.get(0));
+
+    } finally {
+      ExceptionUtil.setRenderedMessageCacheMaxSize(0);
+    }
+  }
+
+  @NotEmptyWhen(propertyPath = "field", conditionPropertyPath = "conditionField",
+      conditionValue = ConditionValue.TRUE,
+      message = "not defined message of {conditionPropertyPath}")
+  @SuppressWarnings("unused")
+  private static class NotDefinedMessageBean {
+    private String field = "";
+    private boolean conditionField = true;
+  }
+
+  @NotEmptyWhen(propertyPath = "a", conditionPropertyPath = "conditionField",
+      conditionValue = ConditionValue.TRUE)
+  @NotEmptyWhen(propertyPath = "b", conditionPropertyPath = "conditionField",
+      conditionValue = ConditionValue.TRUE)
+  @SuppressWarnings("unused")
+  private static class TwoNotEmptyWhenBean {
+    private String a = "";
+    private String b = "";
+    private boolean conditionField = true;
+  }
+
   // -------------------------------------------------------------------------
   // Beans for the basic wiring check (9 validators × 1 case)
   // -------------------------------------------------------------------------
@@ -18,6 +18,10 @@ package jp.ecuacion.lib.validation.constraints;
 import static org.assertj.core.api.Assertions.assertThat;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import jp.ecuacion.lib.core.violation.Violations;
 import jp.ecuacion.lib.validation.constraints.enums.ConditionValue;
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.DisplayName;
@@ -349,10 +353,26 @@ public class WhenValidatorsIsValidTest {
       assertThat(validator.validate(new Bean(null, null, true))).isEmpty();
     }
 
+    @Test
+    @DisplayName("field contained in the reference array passes, including null")
+    void arrayReference() {
+      String[] expected = new String[] {"abc", null};
+      assertThat(validator.validate(new ArrayBean("abc", expected, true))).isEmpty();
+      assertThat(validator.validate(new ArrayBean(null, expected, true))).isEmpty();
+      assertThat(validator.validate(new ArrayBean("xyz", expected, true))).hasSize(1);
+      assertThat(validator.validate(new ArrayBean(null, new String[] {"abc"}, true))).hasSize(1);
+    }
+
     @ValueOfPropertyPathWhen(propertyPath = "field", valuePropertyPath = "expected",
         conditionPropertyPath = "cond", conditionValue = ConditionValue.TRUE)
     private static record Bean(
         @Nullable String field, @Nullable String expected, boolean cond) {}
+
+    @ValueOfPropertyPathWhen(propertyPath = "field", valuePropertyPath = "expected",
+        conditionPropertyPath = "cond", conditionValue = ConditionValue.TRUE)
+    @SuppressWarnings("ArrayRecordComponent")
+    private static record ArrayBean(
+        @Nullable String field, @Nullable String[] expected, boolean cond) {}
   }
 
   // -------------------------------------------------------------------------
@@ -380,4 +400,112 @@ public class WhenValidatorsIsValidTest {
     private static record Bean(
         @Nullable String field, @Nullable String forbidden, boolean cond) {}
   }
+
+  // -------------------------------------------------------------------------
+  // Validator instances shared among threads
+  // -------------------------------------------------------------------------
+
+  @Nested
+  @DisplayName("validator instances shared among threads")
+  class SharedInstances {
+
+    @Test
+    @DisplayName("results do not depend on other threads")
+    void concurrentValidation() {
+      List<Integer> indexes = IntStream.range(0, 2000).boxed().toList();
+      List<Integer> failures = indexes.parallelStream()
+          .map(i -> validator.validate(new Bean(i % 3 == 0 ? "a" : "b", i % 2 == 0 ? "a" : "b",
+              i % 5 != 0, i % 7, 3)).size())
+          .toList();
+
+      for (int i : indexes) {
+        boolean valueOfPropertyPathFails = i % 5 != 0 && (i % 3 == 0) != (i % 2 == 0);
+        boolean lessThanFails = i % 7 >= 3;
+        int expected = (valueOfPropertyPathFails ? 1 : 0) + (lessThanFails ? 1 : 0);
+        assertThat(failures.get(i)).as("index: " + i).isEqualTo(expected);
+      }
+    }
+
+    @ValueOfPropertyPathWhen(propertyPath = "field", valuePropertyPath = "expected",
+        conditionPropertyPath = "cond", conditionValue = ConditionValue.TRUE)
+    @LessThan(propertyPath = "num", baselinePropertyPath = "max")
+    private static record Bean(String field, String expected, boolean cond, int num, int max) {}
+  }
+
+  // -------------------------------------------------------------------------
+  // Conditions shared among constraints in a validation run
+  // -------------------------------------------------------------------------
+
+  @Nested
+  @DisplayName("conditions shared in a validation run")
+  class SharedConditions {
+
+    @Test
+    @DisplayName("constraints with the same or different conditions are validated correctly")
+    void sharedConditions() {
+      assertThat(new Violations().validate(new Bean("", "", "a")).size()).isEqualTo(2);
+      assertThat(new Violations().validate(new Bean("x", "x", "a")).size()).isEqualTo(0);
+      assertThat(new Violations().validate(new Bean("", "x", "b")).size()).isEqualTo(0);
+      assertThat(new Violations().validate(new Bean("x", "", "b")).size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("the condition shared by constraints is evaluated once per bean in Violations")
+    void conditionEvaluatedOnce() {
+      CountedBean bean = new CountedBean("", "", "", new Type("a"), new Type("a"));
+
+      Type.evaluationCount.set(0);
+      assertThat(new Violations().validate(bean).size()).isEqualTo(3);
+      assertThat(Type.evaluationCount.get()).isEqualTo(1);
+
+      // Evaluated by each constraint outside a validation run of Violations.
+      Type.evaluationCount.set(0);
+      assertThat(validator.validate(bean)).hasSize(3);
+      assertThat(Type.evaluationCount.get()).isEqualTo(3);
+    }
+
+    @NotEmptyWhen(propertyPath = "field1", conditionPropertyPath = "type",
+        conditionValue = ConditionValue.STRING, conditionValueString = "a")
+    @NotEmptyWhen(propertyPath = "field2", conditionPropertyPath = "type",
+        conditionValue = ConditionValue.STRING, conditionValueString = "a")
+    @EmptyWhen(propertyPath = "field1", conditionPropertyPath = "type",
+        conditionValue = ConditionValue.STRING, conditionValueString = "b")
+    private static record Bean(String field1, String field2, String type) {}
+
+    @NotEmptyWhen(propertyPath = "field1", conditionPropertyPath = "type",
+        conditionValue = ConditionValue.VALUE_OF_PROPERTY_PATH,
+        conditionValuePropertyPath = "expectedType")
+    @NotEmptyWhen(propertyPath = "field2", conditionPropertyPath = "type",
+        conditionValue = ConditionValue.VALUE_OF_PROPERTY_PATH,
+        conditionValuePropertyPath = "expectedType")
+    @NotEmptyWhen(propertyPath = "field3", conditionPropertyPath = "type",
+        conditionValue = ConditionValue.VALUE_OF_PROPERTY_PATH,
+        conditionValuePropertyPath = "expectedType")
+    private static record CountedBean(String field1, String field2, String field3, Type type,
+        Type expectedType) {}
+
+    /*
+     * Counts evaluations of the condition, which compares the value with equals.
+     */
+    private static final class Type {
+      private static final AtomicInteger evaluationCount = new AtomicInteger();
+
+      private final String value;
+
+      private Type(String value) {
+        this.value = value;
+      }
+
+      @Override
+      public boolean equals(@Nullable Object obj) {
+        evaluationCount.incrementAndGet();
+        return obj instanceof Type other && value.equals(other.value);
+      }
+
+      @Override
+      public int hashCode() {
+        return value.hashCode();
+      }
+    }
+  }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2012 ecuacion.jp (info@ecuacion.jp)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.ecuacion.lib.validation.constraints.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link AbstractNumberStringValidator#isIntegerInRange}. */
+@DisplayName("AbstractNumberStringValidator - isIntegerInRange")
+public class AbstractNumberStringValidatorTest {
+
+  private static final String[] VALUES = new String[] {"0", "-0", "+0", "123", "-456", "+789",
+      "1,234", ",1", "1,", "-,1", ",-1", "1,,2", ",", "-", "+", "-,", "+-1", "--1", "1-", "1.5",
+      "abc", " 1", "1 ", "１２３", "2147483647", "2147483648", "-2147483648", "-2147483649",
+      "2,147,483,647", "2,147,483,648", "00000000002147483647", "9223372036854775807",
+      "9223372036854775808", "-9223372036854775808", "-9223372036854775809",
+      "99999999999999999999"};
+
+  @Test
+  @DisplayName("the same result as Integer.parseInt and Long.parseLong after removing commas")
+  void sameAsParse() {
+    for (String value : VALUES) {
+      assertThat(AbstractNumberStringValidator.isIntegerInRange(value, Integer.MIN_VALUE,
+          Integer.MAX_VALUE)).as(value).isEqualTo(parses(value, true));
+      assertThat(AbstractNumberStringValidator.isIntegerInRange(value, Long.MIN_VALUE,
+          Long.MAX_VALUE)).as(value).isEqualTo(parses(value, false));
+    }
+  }
+
+  private boolean parses(String value, boolean isInt) {
+    String str = value.replace(",", "");
+    try {
+      if (isInt) {
+        Integer.parseInt(str);
+
+      } else {
+        Long.parseLong(str);
+      }
+
+      return true;
+
+    } catch (NumberFormatException ex) {
+      return false;
+    }
+  }
+}
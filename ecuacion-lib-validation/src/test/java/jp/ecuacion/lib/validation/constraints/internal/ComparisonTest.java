@@ -170,6 +170,17 @@ public class ComparisonTest {
     assertThat(invalid).hasSize(1);
   }
 
+  @Test
+  @DisplayName("typeConversionFromString=NUMBER: each propertyPath is compared with the basis")
+  public void typeConversionFromString_numberWithMultiplePropertyPaths() {
+    for (int i = 0; i < 2; i++) {
+      assertThat(validator.validate(new ComparisonTestBean.TypeConversionFromStringBeans
+          .NumberConversionMultiplePropertyPaths("999,999", "1,0,0"))).isEmpty();
+      assertThat(validator.validate(new ComparisonTestBean.TypeConversionFromStringBeans
+          .NumberConversionMultiplePropertyPaths("1", "1,000,001"))).hasSize(1);
+    }
+  }
+
   @Test
   @DisplayName("typeConversionFromString=NUMBER with non-String field throws RuntimeException")
   public void typeConversionFromString_nonStringField_throws() {
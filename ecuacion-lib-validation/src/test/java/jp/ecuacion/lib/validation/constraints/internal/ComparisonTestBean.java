@@ -237,6 +237,19 @@ public class ComparisonTestBean {
       private String endDate = "2001-01-01";
     }
 
+    @LessThan(propertyPath = {"amount1", "amount2"}, baselinePropertyPath = "limit",
+        typeConversionFromString = jp.ecuacion.lib.validation.constraints.enums.TypeConversionFromString.NUMBER)
+    public static class NumberConversionMultiplePropertyPaths {
+      private String amount1;
+      private String amount2;
+      private String limit = "1,000,000";
+
+      public NumberConversionMultiplePropertyPaths(String amount1, String amount2) {
+        this.amount1 = amount1;
+        this.amount2 = amount2;
+      }
+    }
+
     @LessThan(propertyPath = "amount", baselinePropertyPath = "limit",
         typeConversionFromString = jp.ecuacion.lib.validation.constraints.enums.TypeConversionFromString.NUMBER)
     public static class NumberConversionNonStringField {
@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2012 ecuacion.jp (info@ecuacion.jp)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.ecuacion.lib.validation.constraints.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.util.regex.PatternSyntaxException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link PatternCache}. */
+@DisplayName("PatternCache")
+public class PatternCacheTest {
+
+  @Test
+  @DisplayName("the same regexp returns the same instance")
+  void sameInstance() {
+    assertThat(PatternCache.get("^[0-9]{3}$")).isSameAs(PatternCache.get("^[0-9]{3}$"));
+    assertThat(PatternCache.get("^[0-9]{3}$").matcher("123").matches()).isTrue();
+  }
+
+  @Test
+  @DisplayName("the cache is bounded")
+  void bounded() {
+    for (int i = 0; i <= PatternCache.MAX_CACHE_SIZE; i++) {
+      assertThat(PatternCache.get("^a{" + i + "}$").pattern()).isEqualTo("^a{" + i + "}$");
+    }
+  }
+
+  @Test
+  @DisplayName("malformed regexp: PatternSyntaxException by get, null by getIfValid")
+  void malformed() {
+    assertThatThrownBy(() -> PatternCache.get("^[.*$"))
+        .isInstanceOf(PatternSyntaxException.class);
+    assertThat(PatternCache.getIfValid("^[.*$")).isNull();
+    assertThat(PatternCache.getIfValid("")).isNull();
+  }
+}
@@ -44,7 +44,7 @@ public class ValidateWhenValidatorTest {
 
   private ValidateWhenValidator<Annotation, Object> obj = new ValidateWhenValidator<>() {
     @Override
-    protected boolean isValid(Object valueOfField) {
+    protected boolean isValid(Object valueOfField, ValidationContext context) {
       return false;
     }
   };
@@ -867,4 +867,43 @@ public class ValidateWhenValidatorTest {
       }
     }
   }
+
+  // -------------------------------------------------------------------------
+  // isValidWhenConditionNotSatisfied
+  // -------------------------------------------------------------------------
+
+  @Nested
+  @DisplayName("isValidWhenConditionNotSatisfied")
+  class IsValidWhenConditionNotSatisfied {
+
+    private final ValidateWhenValidator.ValidationContext context =
+        new ValidateWhenValidator.ValidationContext(new Object(), false);
+
+    @Test
+    @DisplayName("default: the inverse of isValid")
+    void defaultImplementation() {
+      assertThat(obj.isValidWhenConditionNotSatisfied("a", context)).isTrue();
+    }
+
+    @Test
+    @DisplayName("the deprecated method is called when it's overridden")
+    @SuppressWarnings("deprecation")
+    void deprecatedMethodOverridden() {
+      ValidateWhenValidator<Annotation, Object> legacy = new ValidateWhenValidator<>() {
+        @Override
+        protected boolean isValid(Object valueOfField, ValidationContext context) {
+          return true;
+        }
+
+        @Override
+        protected boolean isValidWhenConditionNotSatisfied(Object valueOfField) {
+          return valueOfField.equals("ok") || super.isValidWhenConditionNotSatisfied(valueOfField);
+        }
+      };
+
+      assertThat(legacy.isValidWhenConditionNotSatisfied("ok", context)).isTrue();
+      // super calls the inverse of isValid.
+      assertThat(legacy.isValidWhenConditionNotSatisfied("ng", context)).isFalse();
+    }
+  }
 }
@@ -0,0 +1,284 @@
+/*
+ * Copyright © 2012 ecuacion.jp (info@ecuacion.jp)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.ecuacion.lib.validation.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import jp.ecuacion.lib.core.jakartavalidation.constraints.PropertyPathAccessorTable;
+import jp.ecuacion.lib.core.util.PropertyPathUtil;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Tests for {@link PropertyPathAccessorProcessor}. */
+@DisplayName("PropertyPathAccessorProcessor")
+public class PropertyPathAccessorProcessorTest {
+
+  private static final String SAMPLE_BEAN = """
+      package sample;
+
+      import jp.ecuacion.lib.validation.constraints.GreaterThan;
+      import jp.ecuacion.lib.validation.constraints.NotEmptyWhen;
+      import jp.ecuacion.lib.validation.constraints.enums.ConditionValue;
+
+      @GreaterThan(propertyPath = "to", baselinePropertyPath = "from")
+      @NotEmptyWhen(propertyPath = "child.name", conditionPropertyPath = "flag",
+          conditionValue = ConditionValue.TRUE)
+      @NotEmptyWhen(propertyPath = {"list[0]", "secret"}, conditionPropertyPath = "rec.value",
+          conditionValue = ConditionValue.TRUE)
+      public class SampleBean {
+        private Integer from = 1;
+        Integer to = 2;
+        Child child = new Child();
+        protected boolean flag = true;
+        private java.util.List<String> list = java.util.List.of("a");
+        private String secret = "secret";
+        public Rec rec = new Rec("v");
+
+        // Returns the value different from the field to check the getter is not used.
+        public Integer getFrom() {
+          return 10;
+        }
+
+        public String getSecret() {
+          return "getter";
+        }
+
+        public static class Child {
+          String name = "childName";
+        }
+
+        public record Rec(String value) {
+        }
+
+        @NotEmptyWhen(propertyPath = "name", conditionPropertyPath = "flag",
+            conditionValue = ConditionValue.TRUE)
+        public static class Inner {
+          String name = "nested";
+          boolean flag = true;
+        }
+      }
+      """;
+
+  // Has the same name as the table of SampleBean.Inner when "$" is replaced with "_".
+  private static final String SAMPLE_BEAN_INNER = """
+      package sample;
+
+      import jp.ecuacion.lib.validation.constraints.NotEmptyWhen;
+      import jp.ecuacion.lib.validation.constraints.enums.ConditionValue;
+
+      @NotEmptyWhen(propertyPath = "name", conditionPropertyPath = "flag",
+          conditionValue = ConditionValue.TRUE)
+      public class SampleBean_Inner {
+        String name = "topLevel";
+        boolean flag = true;
+      }
+      """;
+
+  private static final String MARKED_BEAN = """
+      package sample;
+
+      public class MarkedBean {
+        String value = "field";
+      }
+      """;
+
+  // A hand-written table which returns a value different from the field,
+  // to check whether PropertyPathUtil.getValue uses it.
+  private static final String MARKED_BEAN_TABLE = """
+      package sample;
+
+      public class MarkedBean_PropertyPathAccessors
+          implements jp.ecuacion.lib.core.jakartavalidation.constraints.PropertyPathAccessorTable {
+
+        @Override
+        public Class<?> getTargetClass() {
+          return MarkedBean.class;
+        }
+
+        @Override
+        public java.util.Map<String, java.util.function.Function<Object, Object>> getAccessors() {
+          return java.util.Map.of("value", obj -> "table");
+        }
+      }
+      """;
+
+  private static final String OTHER_BEAN = """
+      package sample;
+
+      public class OtherBean {
+        String value = "field";
+      }
+      """;
+
+  // A table of another class, which is not used.
+  private static final String OTHER_BEAN_TABLE = """
+      package sample;
+
+      public class OtherBean_PropertyPathAccessors
+          implements jp.ecuacion.lib.core.jakartavalidation.constraints.PropertyPathAccessorTable {
+
+        @Override
+        public Class<?> getTargetClass() {
+          return MarkedBean.class;
+        }
+
+        @Override
+        public java.util.Map<String, java.util.function.Function<Object, Object>> getAccessors() {
+          return java.util.Map.of("value", obj -> "table");
+        }
+      }
+      """;
+
+  @TempDir
+  static Path tempDir;
+
+  private static Path outDir = Path.of("");
+
+  @BeforeAll
+  static void compile() throws IOException {
+    Path srcDir = Files.createDirectories(tempDir.resolve("src/sample"));
+    Files.writeString(srcDir.resolve("SampleBean.java"), SAMPLE_BEAN, StandardCharsets.UTF_8);
+    Files.writeString(srcDir.resolve("SampleBean_Inner.java"), SAMPLE_BEAN_INNER,
+        StandardCharsets.UTF_8);
+    Map<@NonNull String, @NonNull String> sources = Map.of("MarkedBean", MARKED_BEAN,
+        "MarkedBean_PropertyPathAccessors", MARKED_BEAN_TABLE, "OtherBean", OTHER_BEAN,
+        "OtherBean_PropertyPathAccessors", OTHER_BEAN_TABLE);
+    for (Map.Entry<@NonNull String, @NonNull String> entry : sources.entrySet()) {
+      Files.writeString(srcDir.resolve(entry.getKey() + ".java"), entry.getValue(),
+          StandardCharsets.UTF_8);
+    }
+    outDir = Files.createDirectories(tempDir.resolve("out"));
+
+    List<@NonNull String> cp = new ArrayList<>();
+    for (String key : new String[] {"java.class.path", "jdk.module.path"}) {
+      String value = System.getProperty(key);
+      if (value != null && !value.isEmpty()) {
+        cp.add(value);
+      }
+    }
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    try (StandardJavaFileManager fm = compiler.getStandardFileManager(null, null, null)) {
+      List<@NonNull File> files = new ArrayList<>();
+      files.add(srcDir.resolve("SampleBean.java").toFile());
+      files.add(srcDir.resolve("SampleBean_Inner.java").toFile());
+      sources.keySet().forEach(name -> files.add(srcDir.resolve(name + ".java").toFile()));
+      Iterable<? extends JavaFileObject> units = fm.getJavaFileObjectsFromFiles(files);
+      JavaCompiler.CompilationTask task = compiler.getTask(null, fm, null,
+          List.of("-classpath", String.join(File.pathSeparator, cp), "-d", outDir.toString(),
+              "-s", outDir.toString()),
+          null, units);
+      task.setProcessors(List.of(new PropertyPathAccessorProcessor()));
+      assertThat(task.call()).isTrue();
+    }
+  }
+
+  @Test
+  @DisplayName("generates the accessors of accessible propertyPaths only")
+  void generatedAccessors() throws Exception {
+    try (URLClassLoader loader = new URLClassLoader(new URL[] {outDir.toUri().toURL()},
+        getClass().getClassLoader())) {
+      Class<?> tableClass =
+          loader.loadClass("sample.SampleBean" + PropertyPathAccessorTable.CLASS_NAME_SUFFIX);
+      Map<@NonNull String, @NonNull Function<Object, @Nullable Object>> accessors =
+          ((PropertyPathAccessorTable) tableClass.getConstructor().newInstance()).getAccessors();
+
+      // "list[0]" has a collection part, and "from", "secret" and "rec.value" are private fields.
+      assertThat(accessors.keySet()).containsExactlyInAnyOrder("to", "child.name", "flag");
+
+      Object bean = loader.loadClass("sample.SampleBean").getConstructor().newInstance();
+      assertThat(Objects.requireNonNull(accessors.get("to")).apply(bean)).isEqualTo(2);
+      assertThat(Objects.requireNonNull(accessors.get("child.name")).apply(bean))
+          .isEqualTo("childName");
+      assertThat(Objects.requireNonNull(accessors.get("flag")).apply(bean)).isEqualTo(true);
+    }
+  }
+
+  @Test
+  @DisplayName("tables of a nested class and a top-level class with a similar name are separated")
+  void nestedAndTopLevelClasses() throws Exception {
+    try (URLClassLoader loader = new URLClassLoader(new URL[] {outDir.toUri().toURL()},
+        getClass().getClassLoader())) {
+      Class<?> nested = loader.loadClass("sample.SampleBean$Inner");
+      Class<?> topLevel = loader.loadClass("sample.SampleBean_Inner");
+      assertThat(((PropertyPathAccessorTable) loader
+          .loadClass("sample.SampleBean$Inner" + PropertyPathAccessorTable.CLASS_NAME_SUFFIX)
+          .getConstructor().newInstance()).getTargetClass()).isEqualTo(nested);
+      assertThat(((PropertyPathAccessorTable) loader
+          .loadClass("sample.SampleBean_Inner" + PropertyPathAccessorTable.CLASS_NAME_SUFFIX)
+          .getConstructor().newInstance()).getTargetClass()).isEqualTo(topLevel);
+
+      assertThat(PropertyPathUtil.getValue(nested.getConstructor().newInstance(), "name"))
+          .isEqualTo("nested");
+      assertThat(PropertyPathUtil.getValue(topLevel.getConstructor().newInstance(), "name"))
+          .isEqualTo("topLevel");
+    }
+  }
+
+  @Test
+  @DisplayName("toStringLiteral escapes quotes, backslashes and control characters")
+  void toStringLiteral() {
+    assertThat(PropertyPathAccessorProcessor.toStringLiteral("a.b")).isEqualTo("\"a.b\"");
+    assertThat(PropertyPathAccessorProcessor.toStringLiteral("a\"b\\c\nd\u0001"))
+        .isEqualTo("\"a\\\"b\\\\c\\nd\\u0001\"");
+  }
+
+  @Test
+  @DisplayName("PropertyPathUtil.getValue uses the generated accessors when they exist")
+  void getValueUsesGeneratedAccessors() throws Exception {
+    try (URLClassLoader loader = new URLClassLoader(new URL[] {outDir.toUri().toURL()},
+        getClass().getClassLoader())) {
+      Object bean = loader.loadClass("sample.SampleBean").getConstructor().newInstance();
+
+      assertThat(PropertyPathUtil.getValue(bean, "to")).isEqualTo(2);
+      assertThat(PropertyPathUtil.getValue(bean, "child.name")).isEqualTo("childName");
+
+      // PropertyPaths not in the table are resolved by reflection,
+      // which reads the fields even if getters return other values.
+      assertThat(PropertyPathUtil.getValue(bean, "from")).isEqualTo(1);
+      assertThat(PropertyPathUtil.getValue(bean, "secret")).isEqualTo("secret");
+      assertThat(PropertyPathUtil.getValue(bean, "rec.value")).isEqualTo("v");
+      assertThat(PropertyPathUtil.getValue(bean, "list[0]")).isEqualTo("a");
+
+      // The value from the table, which differs from the field, is returned.
+      Object markedBean = loader.loadClass("sample.MarkedBean").getConstructor().newInstance();
+      assertThat(PropertyPathUtil.getValue(markedBean, "value")).isEqualTo("table");
+
+      // The table whose target class is another class is not used.
+      Object otherBean = loader.loadClass("sample.OtherBean").getConstructor().newInstance();
+      assertThat(PropertyPathUtil.getValue(otherBean, "value")).isEqualTo("field");
+    }
+  }
+}